@@ -0,0 +1,31 @@
+// JMH benchmarks for the list classes in the root project.
+// Run with: ./gradlew :benchmarks:jmh
+// Narrow the run with e.g. -Pjmh.includes=ScanBenchmark
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+group = "org.example"
+version = "1.0-SNAPSHOT"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmhImplementation(rootProject)
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+    resultFormat.set("JSON")
+    if (project.hasProperty("jmh.includes")) {
+        includes.add(project.property("jmh.includes") as String)
+    }
+}
@@ -0,0 +1,24 @@
+import bench.IntListAdapter;
+
+/**
+ * Benchmark adapter for <code>IntArrayList</code>.
+ */
+public final class IntArrayListAdapter implements IntListAdapter
+{
+    private final IntArrayList list = new IntArrayList();
+
+    public void append(int value) { list.addLast(value); }
+    public void add(int index, int value) { list.add(index, value); }
+    public int remove(int index) { return list.remove(index); }
+    public int get(int index) { return list.get(index); }
+    public int indexOf(int value) { return list.indexOf(value); }
+    public int size() { return list.size(); }
+
+    public long sum() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,24 @@
+import bench.IntListAdapter;
+
+/**
+ * Benchmark adapter for <code>MyArrayList</code>.
+ */
+public final class MyArrayListAdapter implements IntListAdapter
+{
+    private final MyArrayList list = new MyArrayList();
+
+    public void append(int value) { list.addLast(value); }
+    public void add(int index, int value) { list.add(index, value); }
+    public int remove(int index) { return list.remove(index); }
+    public int get(int index) { return list.get(index); }
+    public int indexOf(int value) { return list.indexOf(value); }
+    public int size() { return list.size(); }
+
+    public long sum() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,25 @@
+import bench.IntListAdapter;
+
+/**
+ * Benchmark adapter for a <code>MyArrayList</code> with every call wrapped in
+ * <code>synchronized</code>, the baseline for <code>ConcurrentArrayList</code>.
+ */
+public final class SynchronizedMyArrayListAdapter implements IntListAdapter
+{
+    private final MyArrayList list = new MyArrayList();
+
+    public synchronized void append(int value) { list.addLast(value); }
+    public synchronized void add(int index, int value) { list.add(index, value); }
+    public synchronized int remove(int index) { return list.remove(index); }
+    public synchronized int get(int index) { return list.get(index); }
+    public synchronized int indexOf(int value) { return list.indexOf(value); }
+    public synchronized int size() { return list.size(); }
+
+    public synchronized long sum() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,32 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures building a list of <code>size</code> values from empty with the
+ * cheapest append of each list (<code>addLast</code> on the array lists,
+ * <code>addFirst</code> on the linked lists), growth included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AppendBenchmark
+{
+    @Param({"MyArrayList", "MyLinkedList", "IntArrayList", "UnrolledLinkedList", "IndexableSkipList", "TieredArrayList", "ArrayList", "LinkedList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Benchmark
+    public IntListAdapter fill() {
+        return Lists.filled(impl, size);
+    }
+}
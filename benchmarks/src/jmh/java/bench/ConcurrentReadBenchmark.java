@@ -0,0 +1,82 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures read throughput of a list shared by many threads, alone and with
+ * one writer for every seven readers.
+ * <p>
+ * <code>readOnly</code> runs on every core, so comparing its score with a
+ * run using <code>-t 1</code> shows how reads scale. In the
+ * <code>mixed</code> group the writer inserts and removes in the middle of
+ * the list, which moves half of it each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentReadBenchmark
+{
+    @Param({"ConcurrentArrayList", "SynchronizedMyArrayList"})
+    public String impl;
+
+    @Param({"1000"})
+    public int size;
+
+    private IntListAdapter list;
+
+    /**
+     * Each thread walks its own index through the list.
+     */
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        int index;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        list = Lists.filled(impl, size);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int readOnly(Cursor cursor) {
+        return read(cursor);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(7)
+    public int mixedRead(Cursor cursor) {
+        return read(cursor);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public int mixedWrite() {
+        list.add(size / 2, 42);
+        return list.remove(size / 2);
+    }
+
+    private int read(Cursor cursor) {
+        int index = cursor.index + 1;
+        if (index >= size) {
+            index = 0;
+        }
+        cursor.index = index;
+        return list.get(index);
+    }
+}
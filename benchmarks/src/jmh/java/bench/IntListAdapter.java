@@ -0,0 +1,60 @@
+package bench;
+
+/**
+ * A thin view of a list of integers, so that one benchmark body can drive
+ * every list implementation.
+ * <p>
+ * The project's lists live in the default package, which a named package
+ * cannot import, so each of them is wrapped by a small adapter class in the
+ * default package of this source set. Every benchmark fork only ever sees one
+ * adapter type, so the interface calls stay monomorphic and get inlined.
+ */
+public interface IntListAdapter
+{
+    /**
+     * Adds the value using the cheapest append the list offers: the end of an
+     * array list, the front of a singly-linked list.
+     * @param value value to be appended
+     */
+    void append(int value);
+
+    /**
+     * Inserts the value at the given position.
+     * @param index index at which the value is to be inserted
+     * @param value value to be inserted
+     */
+    void add(int index, int value);
+
+    /**
+     * Removes the value at the given position.
+     * @param index index of the value to remove
+     * @return the value that was removed
+     */
+    int remove(int index);
+
+    /**
+     * Returns the value at the given position.
+     * @param index index of the value to return
+     * @return the value at the given position
+     */
+    int get(int index);
+
+    /**
+     * Returns the index of the first occurrence of the value, or -1.
+     * @param value value to search for
+     * @return the index of the value, or -1 if it is absent
+     */
+    int indexOf(int value);
+
+    /**
+     * Walks the whole list with its iterator.
+     * @return the sum of all values, so the loop cannot be eliminated
+     */
+    long sum();
+
+    /**
+     * Returns the number of values in the list.
+     * @return the number of values in the list
+     */
+    int size();
+}
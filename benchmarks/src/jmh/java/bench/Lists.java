@@ -0,0 +1,89 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+/**
+ * Creates the adapters named by the <code>impl</code> benchmark parameter.
+ */
+public final class Lists
+{
+    private Lists() {
+    }
+
+    /**
+     * Returns a new, empty adapter for the named implementation.
+     * @param impl simple class name of the list, e.g. <code>MyArrayList</code>
+     * @return an empty adapter
+     */
+    public static IntListAdapter create(String impl) {
+        switch (impl) {
+            case "ArrayList":
+                return new ArrayListAdapter();
+            case "LinkedList":
+                return new LinkedListAdapter();
+            default:
+                // adapters for the project's lists are in the default package
+                try {
+                    return (IntListAdapter) Class.forName(impl + "Adapter")
+                            .getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalArgumentException("Unknown list: " + impl, e);
+                }
+        }
+    }
+
+    /**
+     * Returns a new adapter holding the values 0 to size - 1 (in some order).
+     * @param impl simple class name of the list
+     * @param size number of values to add
+     * @return a filled adapter
+     */
+    public static IntListAdapter filled(String impl, int size) {
+        IntListAdapter list = create(impl);
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    private static final class ArrayListAdapter implements IntListAdapter
+    {
+        private final ArrayList<Integer> list = new ArrayList<>();
+
+        public void append(int value) { list.add(value); }
+        public void add(int index, int value) { list.add(index, value); }
+        public int remove(int index) { return list.remove(index); }
+        public int get(int index) { return list.get(index); }
+        public int indexOf(int value) { return list.indexOf(value); }
+        public int size() { return list.size(); }
+
+        public long sum() {
+            long sum = 0;
+            for (Integer value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+
+    private static final class LinkedListAdapter implements IntListAdapter
+    {
+        private final LinkedList<Integer> list = new LinkedList<>();
+
+        public void append(int value) { list.addFirst(value); }
+        public void add(int index, int value) { list.add(index, value); }
+        public int remove(int index) { return list.remove(index); }
+        public int get(int index) { return list.get(index); }
+        public int indexOf(int value) { return list.indexOf(value); }
+        public int size() { return list.size(); }
+
+        public long sum() {
+            long sum = 0;
+            for (Integer value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures index-based access at the head, middle and tail of a list that
+ * holds <code>size</code> values, and at random positions.
+ * <p>
+ * <code>MyLinkedList</code> remembers the last node it looked up (its
+ * finger), so hitting the same index over and over costs it O(1) and the
+ * head, middle and tail rows measure the finger, not a walk. The
+ * <code>random</code> position cycles through a fixed table of random
+ * indices, which defeats the finger. Use that row to compare the
+ * traversal cost of <code>MyLinkedList</code> with <code>LinkedList</code>.
+ * <p>
+ * An insert is always paired with a remove at the same index, so the list
+ * keeps its size for the whole trial without a per-invocation setup (which
+ * would swamp the cheap cases).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PositionalBenchmark
+{
+    @Param({"MyArrayList", "MyLinkedList", "IntArrayList", "UnrolledLinkedList", "IndexableSkipList", "TieredArrayList", "ArrayList", "LinkedList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"head", "middle", "tail", "random"})
+    public String position;
+
+    // a power of two, so the next index is found with a mask
+    private static final int INDICES = 1024;
+
+    private IntListAdapter list;
+    // every position reads its index from this table, so all rows pay the
+    // same lookup cost
+    private int[] indices;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        list = Lists.filled(impl, size);
+        indices = new int[INDICES];
+        Random random = new Random(42);
+        for (int i = 0; i < INDICES; i++) {
+            switch (position) {
+                case "head":
+                    indices[i] = 0;
+                    break;
+                case "middle":
+                    indices[i] = size / 2;
+                    break;
+                case "tail":
+                    indices[i] = size - 1;
+                    break;
+                default:
+                    indices[i] = random.nextInt(size);
+            }
+        }
+    }
+
+    private int nextIndex() {
+        return indices[next++ & (INDICES - 1)];
+    }
+
+    @Benchmark
+    public int addThenRemove() {
+        int index = nextIndex();
+        list.add(index, 42);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public int get() {
+        return list.get(nextIndex());
+    }
+}
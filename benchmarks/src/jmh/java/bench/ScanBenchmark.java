@@ -0,0 +1,45 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures whole-list scans: a missed <code>indexOf</code> and a full walk
+ * with the iterator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScanBenchmark
+{
+    @Param({"MyArrayList", "MyLinkedList", "IntArrayList", "UnrolledLinkedList", "IndexableSkipList", "TieredArrayList", "ArrayList", "LinkedList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private IntListAdapter list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        list = Lists.filled(impl, size);
+    }
+
+    @Benchmark
+    public int indexOfMissing() {
+        return list.indexOf(-1);
+    }
+
+    @Benchmark
+    public long iterate() {
+        return list.sum();
+    }
+}
@@ -14,6 +14,17 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
 }
 
+// VectorIntScan uses the incubating Vector API; IntScan falls back to plain
+// loops when the module is not added at run time.
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.addAll(vectorModule)
+}
+
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+    jvmArgs(vectorModule)
+    // exercise the ListMetrics hooks, which are compiled away when this is off
+    systemProperty("lists.metrics", "true")
+}
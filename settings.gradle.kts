@@ -1,2 +1,3 @@
 rootProject.name = "DSp1Lists"
 
+include("benchmarks")
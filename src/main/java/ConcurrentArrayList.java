@@ -0,0 +1,338 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+/**
+ * The ConcurrentArrayList class is a thread-safe version of
+ * <code>MyArrayList</code> for lists that are read far more often than they
+ * are changed.
+ * <p>
+ * The reads (<code>get</code>, <code>size</code>, <code>indexOf</code>,
+ * <code>contains</code>, <code>isEmpty</code> and <code>iterator</code>) run
+ * under an optimistic read of a <code>StampedLock</code>: they read the fields
+ * without taking any lock and then check that no write happened meanwhile.
+ * Readers therefore never write to shared memory and do not slow each other
+ * down. Only if a write did happen does the read run again under the read
+ * lock. Writes take the write lock.
+ * <p>
+ * The data is stored in an <code>int[]</code>, so a racing optimistic reader
+ * can see a stale value but never a half-built object. Growing replaces the
+ * array, and the readers only touch the array reference they read, checking
+ * every index against its length, so a read that races a growth is simply
+ * retried.
+ * <p>
+ * <code>forEachInt</code> runs under the read lock, since an action that has
+ * already seen inconsistent values cannot be undone and rerun. The iterator
+ * walks a snapshot taken when it was created.
+ */
+public class ConcurrentArrayList implements Iterable<Integer>
+{
+    private final StampedLock lock = new StampedLock();
+    private int[] array;
+    private int size;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public ConcurrentArrayList() {
+        array = new int[10];
+        size = 0;
+    }
+
+    /**
+     * Appends the specified element to the <b>end</b> of the list.
+     * @param item element to be appended to this list
+     * @throws NullPointerException if the item is null
+     */
+    public void addLast(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity();
+            array[size++] = item;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices).
+     * @param index index at which the specified element is to be inserted
+     * @param item element to be inserted
+     * @throws NullPointerException if the item is null
+     */
+    public void add(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        long stamp = lock.writeLock();
+        try {
+            if(index < 0 || index > size){
+                throw new IndexOutOfBoundsException();
+            }
+            ensureCapacity();
+            System.arraycopy(array, index, array, index + 1, size - index);
+            array[index] = item;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts any
+     * subsequent elements to the left (subtracts one from their indices).
+     * @param index the index of the element to remove
+     * @return the element that was removed from the list
+     */
+    public Integer remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            int temp = array[index];
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+            size--;
+            return temp;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    public Integer get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int[] a = array;
+        int n = size;
+        boolean inRange = index >= 0 && index < n && index < a.length;
+        int value = inRange ? a[index] : 0;
+        if(!lock.validate(stamp)){
+            stamp = lock.readLock();
+            try {
+                inRange = index >= 0 && index < size;
+                value = inRange ? array[index] : 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if(!inRange){
+            throw new IndexOutOfBoundsException();
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     * @param index index of the element to replace
+     * @param item element to be stored at the specified position
+     * @throws NullPointerException if the item is null
+     */
+    public void set(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        long stamp = lock.writeLock();
+        try {
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            array[index] = item;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int n = size;
+        if(!lock.validate(stamp)){
+            stamp = lock.readLock();
+            try {
+                n = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     * @param item element to search for
+     * @return the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element
+     * @throws NullPointerException if the item is null
+     */
+    public int indexOf(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        int value = item;
+        long stamp = lock.tryOptimisticRead();
+        int[] a = array;
+        int index = indexOf(a, Math.min(size, a.length), value);
+        if(!lock.validate(stamp)){
+            stamp = lock.readLock();
+            try {
+                index = indexOf(array, size, value);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return index;
+    }
+
+    private static int indexOf(int[] a, int n, int value) {
+        for(int i = 0; i < n; i++){
+            if(a[i] == value){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified element.
+     * @param item element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     * @throws NullPointerException if the item is null
+     */
+    public boolean contains(Integer item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Removes all the elements from this list.
+     * @post the capacity of the array should not change
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Performs the given action on each element of this list, in order, while
+     * holding the read lock. The action must not change this list.
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        long stamp = lock.readLock();
+        try {
+            for(int i = 0; i < size; i++){
+                action.accept(array[i]);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Increases the capacity of the underlying array if it is full. Must be
+     * called with the write lock held.
+     */
+    private void ensureCapacity() {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+    }
+
+    /**
+     * Returns a copy of the elements, read optimistically when possible.
+     */
+    private int[] snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        int[] a = array;
+        int[] copy = Arrays.copyOf(a, Math.min(size, a.length));
+        if(!lock.validate(stamp)){
+            stamp = lock.readLock();
+            try {
+                copy = Arrays.copyOf(array, size);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements the list held when this method was
+     * called, in proper sequence. Later changes to the list do not affect it.
+     *
+     * @return an iterator over a snapshot of this list
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new ConcurrentArrayListIterator(snapshot());
+    }
+
+    private static class ConcurrentArrayListIterator implements Iterator<Integer> {
+        private final int[] elements;
+        private int currentIndex = 0;
+
+        ConcurrentArrayListIterator(int[] elements) {
+            this.elements = elements;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < elements.length;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements[currentIndex++];
+        }
+    }
+}
@@ -0,0 +1,294 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The GapArrayList class is a gap-buffer variant of <code>MyArrayList</code>
+ * for long runs of edits near one moving position, like an editor cursor.
+ * <p>
+ * The unused capacity of the array is kept as one "gap" at the cursor, so
+ * the elements before the cursor sit at the start of the array and the
+ * elements after it sit at the end. An <code>add</code> or
+ * <code>remove</code> first moves the gap to its index, which only shifts
+ * the elements between the old and the new cursor, and then fills or widens
+ * the gap in constant time. A run of edits at (or next to) the same index
+ * therefore costs O(1) amortized each, while <code>get</code> and
+ * <code>set</code> stay O(1) by skipping over the gap.
+ * <p>
+ * The cursor is normally inferred from the edits, but it can also be moved
+ * explicitly with <code>moveCursor</code>, for example to pay for the move
+ * up front. As in <code>MyArrayList</code>, the default constructor gives an
+ * initial capacity of ten, null items are rejected with the
+ * <code>NullPointerException</code>, and bad indices throw the
+ * <code>IndexOutOfBoundsException</code>.
+ */
+public class GapArrayList implements Iterable<Integer>
+{
+    private Integer[] array;
+    // the gap is array[gapStart] up to (but not including) array[gapEnd]
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public GapArrayList() {
+        array = new Integer[10];
+        gapStart = 0;
+        gapEnd = array.length;
+    }
+
+    /**
+     * Appends the specified Integer to the <b>end</b> of the list. This moves
+     * the cursor to the end of the list.
+     * @param item Integer to be appended to this list
+     * @throws NullPointerException if item is null
+     */
+    public void addLast(Integer item) {
+        add(size(), item);
+    }
+
+    /**
+     * Inserts the specified Integer at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices). Afterwards the
+     * cursor sits just after the inserted Integer, so a following insert at
+     * <code>index + 1</code> is O(1).
+     * @param index index at which the specified element is to be inserted
+     * @param item Integer to be inserted
+     * @throws NullPointerException if item is null
+     */
+    public void add(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        if(index < 0 || index > size()){
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity();
+        moveGap(index);
+        array[gapStart++] = item;
+    }
+
+    /**
+     * Removes the Integer at the specified position in this list. Shifts any
+     * subsequent Integers to the left (subtracts one from their indices).
+     * Afterwards the cursor sits at <code>index</code>, so removing again at
+     * <code>index</code> or <code>index - 1</code> is O(1).
+     * @param index the index of the element to remove
+     * @return the element that was removed from the list
+     */
+    public Integer remove(int index) {
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        moveGap(index);
+        Integer temp = array[gapEnd];
+        array[gapEnd++] = null;
+        return temp;
+    }
+
+    /**
+     * Returns the Integer at the specified position in this list.
+     * @param index index of the element to return
+     * @return the Integer at the specified position in this list
+     */
+    public Integer get(int index) {
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        return array[physical(index)];
+    }
+
+    /**
+     * Replaces the Integer at the specified position in this list with the
+     * specified Integer. This does not move the cursor.
+     * @param index index of the integer to replace
+     * @param item Integer to be stored at the specified position
+     * @throws NullPointerException if item is null
+     */
+    public void set(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        if(index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException();
+        }
+        array[physical(index)] = item;
+    }
+
+    /**
+     * Returns the position of the cursor, which is where the gap currently is.
+     * An insert at this index needs no shifting.
+     * @return the index of the cursor, between zero and the size of the list
+     */
+    public int cursor() {
+        return gapStart;
+    }
+
+    /**
+     * Moves the cursor to the specified position. This costs time proportional
+     * to the distance moved.
+     * @param index the new position of the cursor
+     */
+    public void moveCursor(int index) {
+        if(index < 0 || index > size()){
+            throw new IndexOutOfBoundsException();
+        }
+        moveGap(index);
+    }
+
+    /**
+     * Returns the number of Integers in this list.
+     * @return the number of Integers in this list
+     */
+    public int size() {
+        return array.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified Integer
+     * in this list, or -1 if this list does not contain the Integer.
+     * @param item Integer to search for
+     * @return the index of the first occurrence of the specified Integer
+     * in this list, or -1 if this list does not contain the Integer
+     * @throws NullPointerException if item is null
+     */
+    public int indexOf(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        for(int i = 0; i < gapStart; i++){
+            if(array[i].equals(item)){
+                return i;
+            }
+        }
+        for(int i = gapEnd; i < array.length; i++){
+            if(array[i].equals(item)){
+                return i - (gapEnd - gapStart);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified Integer.
+     * @param item Integer whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     * @throws NullPointerException if item is null
+     */
+    public boolean contains(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Removes all the elements from this list and moves the cursor to zero.
+     * @post the capacity of the array should not change
+     */
+    public void clear() {
+        Arrays.fill(array, null);
+        gapStart = 0;
+        gapEnd = array.length;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Maps a list index to its slot in the array, skipping over the gap.
+     * @param index list index
+     * @return the array index holding that element
+     */
+    private int physical(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so that it starts at the specified list index, shifting
+     * only the elements between the old and the new position.
+     * @param index the new start of the gap
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(array, index, array, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+            // clear the moved slots that are now part of the gap
+            Arrays.fill(array, gapStart, Math.min(gapEnd, gapStart + count), null);
+        }
+        else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+            Arrays.fill(array, Math.max(gapStart, gapEnd - count), gapEnd, null);
+        }
+    }
+
+    /**
+     * Doubles the capacity of the underlying array if the gap is empty. The
+     * new space becomes the gap, which stays where it is.
+     */
+    private void ensureCapacity() {
+        if (gapStart == gapEnd) {
+            Integer[] newArray = new Integer[array.length * 2];
+            int tail = array.length - gapEnd;
+            System.arraycopy(array, 0, newArray, 0, gapStart);
+            System.arraycopy(array, gapEnd, newArray, newArray.length - tail, tail);
+            gapEnd = newArray.length - tail;
+            array = newArray;
+        }
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new GapArrayListIterator();
+    }
+
+    private class GapArrayListIterator implements Iterator<Integer> {
+        private int currentIndex = 0;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size();
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[physical(currentIndex++)];
+        }
+    }
+}
@@ -0,0 +1,326 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The IndexableSkipList class is a list of integers with the same methods as
+ * <code>MyLinkedList</code>, but positional access runs in O(log n) expected
+ * time instead of walking from the first node.
+ * <p>
+ * The bottom level is an ordinary singly-linked list in list order. Each node
+ * also gets a random number of "express lanes" above it (half the nodes reach
+ * level two, a quarter level three, and so on). Every link records its
+ * <b>width</b>, the number of bottom-level steps it skips, so a lookup of
+ * index <code>i</code> runs down the lanes, taking a link whenever its width
+ * does not overshoot. Inserting or removing a node only adjusts the widths of
+ * the links that pass over it, one per level.
+ * <p>
+ * Positions are counted from the <code>head</code> sentinel, which sits at
+ * position zero, so list index <code>i</code> is at position
+ * <code>i + 1</code>. A link to null gets the width it would have to a
+ * sentinel at position <code>size + 1</code>, which keeps the update rules
+ * the same for the last node of each level.
+ */
+public class IndexableSkipList implements Iterable<Integer>
+{
+    private static final int MAX_LEVEL = 32;
+
+    /**
+     * The Node class is a private inner class of the
+     * <code>IndexableSkipList</code> class. <code>next[i]</code> is the
+     * following node on level <code>i</code> and <code>width[i]</code> is the
+     * number of bottom-level steps to it.
+     */
+    private static class Node
+    {
+        public Integer value;
+        public final Node[] next;
+        public final int[] width;
+
+        public Node(Integer value, int level) {
+            this.value = value;
+            next = new Node[level];
+            width = new int[level];
+        }
+    }
+
+    private final Node head;
+    // the number of levels used by any node so far
+    private int levels;
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public IndexableSkipList() {
+        head = new Node(null, MAX_LEVEL);
+        clear();
+    }
+
+    /**
+     * Appends the specified Integer to the beginning of the list.
+     * @param item Integer to be appended to this list
+     * @throws NullPointerException if item is null
+     */
+    public void addFirst(Integer item) {
+        add(0, item);
+    }
+
+    /**
+     * Inserts the specified Integer at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices).
+     * @param index index at which the specified Integer is to be inserted
+     * @param item Integer to be inserted
+     * @throws NullPointerException if item is null
+     */
+    public void add(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+
+        int level = randomLevel();
+        while(levels < level){
+            // a new lane starts out as one link from head to the end
+            head.next[levels] = null;
+            head.width[levels] = size + 1;
+            levels++;
+        }
+
+        Node[] update = new Node[levels];
+        int[] updatePosition = new int[levels];
+        findPredecessors(index, update, updatePosition);
+
+        Node newNode = new Node(item, level);
+        int position = index + 1;
+        for(int i = 0; i < level; i++){
+            Node previous = update[i];
+            int distance = position - updatePosition[i];
+            newNode.next[i] = previous.next[i];
+            newNode.width[i] = previous.width[i] - distance + 1;
+            previous.next[i] = newNode;
+            previous.width[i] = distance;
+        }
+        for(int i = level; i < levels; i++){
+            update[i].width[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * Removes the Integer at the specified position in this list. Shifts any
+     * subsequent Integers to the left (subtracts one from their indices).
+     * @param index the index of the Integer to remove
+     * @return the Integer that was removed from the list
+     */
+    public Integer remove(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        Node[] update = new Node[levels];
+        int[] updatePosition = new int[levels];
+        findPredecessors(index, update, updatePosition);
+
+        Node target = update[0].next[0];
+        int level = target.next.length;
+        for(int i = 0; i < level; i++){
+            update[i].next[i] = target.next[i];
+            update[i].width[i] += target.width[i] - 1;
+        }
+        for(int i = level; i < levels; i++){
+            update[i].width[i]--;
+        }
+        size--;
+        return target.value;
+    }
+
+    /**
+     * Returns the Integer at the specified position in this list.
+     * @param index index of the element to return
+     * @return the Integer at the specified position in this list
+     */
+    public Integer get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).value;
+    }
+
+    /**
+     * Replaces the Integer at the specified position in this list with the
+     * specified Integer.
+     * @param index index of the integer to replace
+     * @param item Integer to be stored at the specified position
+     * @throws NullPointerException if item is null
+     */
+    public void set(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).value = item;
+    }
+
+    /**
+     * Returns the number of Integers in this list.
+     * @return the number of Integers in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified Integer in this list,
+     * or -1 if this list does not contain the Integer.
+     * @param item Integer to search for
+     * @return the index of the first occurrence of the specified Integer in this list,
+     * or -1 if this list does not contain the Integer
+     * @throws NullPointerException if item is null
+     */
+    public int indexOf(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        Node current = head.next[0];
+        for(int i = 0; i < size; i++){
+            if(current.value.equals(item)){
+                return i;
+            }
+            current = current.next[0];
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified Integer.
+     * @param item Integer whose presence in this list is to be tested
+     * @return true if this list contains the specified Integer
+     * @throws NullPointerException if item is null
+     */
+    public boolean contains(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Removes all the elements from this list. The list will be empty after this
+     * call returns.
+     */
+    public void clear() {
+        // garbage collection will handle this automatically
+        Arrays.fill(head.next, null);
+        head.width[0] = 1;
+        levels = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the node holding the element at the specified index.
+     * @param index a valid list index
+     * @return the node at that index
+     */
+    private Node nodeAt(int index) {
+        int target = index + 1;
+        int position = 0;
+        Node current = head;
+        for(int i = levels - 1; i >= 0; i--){
+            while(current.next[i] != null && position + current.width[i] <= target){
+                position += current.width[i];
+                current = current.next[i];
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Finds, on every level, the last node before list index
+     * <code>index</code>, together with its position.
+     * @param index the list index about to be inserted or removed
+     * @param update receives the predecessor on each level
+     * @param updatePosition receives the position of each predecessor
+     */
+    private void findPredecessors(int index, Node[] update, int[] updatePosition) {
+        int position = 0;
+        Node current = head;
+        for(int i = levels - 1; i >= 0; i--){
+            while(current.next[i] != null && position + current.width[i] <= index){
+                position += current.width[i];
+                current = current.next[i];
+            }
+            update[i] = current;
+            updatePosition[i] = position;
+        }
+    }
+
+    /**
+     * Picks the number of levels for a new node: one, plus one more for each
+     * coin flip that comes up heads.
+     * @return a level between one and <code>MAX_LEVEL</code>
+     */
+    private static int randomLevel() {
+        int flips = ThreadLocalRandom.current().nextInt();
+        return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(flips) + 1);
+    }
+
+    /**
+     * Iterator Stuff
+     */
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new IndexableSkipListIterator();
+    }
+
+    private class IndexableSkipListIterator implements Iterator<Integer> {
+        private Node current = head.next[0];
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Integer value = current.value;
+            current = current.next[0];
+            return value;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * The IntArrayList class is a primitive companion to <code>MyArrayList</code>.
+ * <p>
+ * It offers the same methods as <code>MyArrayList</code>, but the data is
+ * stored in an <code>int[]</code> and the accessors take and return
+ * little-i <code>int</code> values. Each element therefore costs four bytes
+ * instead of a reference plus an <code>Integer</code> object, and
+ * <code>addLast</code>, <code>get</code> and <code>set</code> never box.
+ * Because an <code>int</code> cannot be null, none of the methods throw the
+ * <code>NullPointerException</code>. Only the <code>Iterator</code> boxes,
+ * since <code>Iterable</code> has a type parameter.
+ * <p>
+ * The searches (<code>indexOf</code>, <code>lastIndexOf</code>,
+ * <code>contains</code>, and <code>count</code>) go through
+ * <code>IntScan</code>, which uses SIMD instructions when the Vector API is
+ * available.
+ */
+public class IntArrayList implements Iterable<Integer>
+{
+    private int[] array;
+    private int size;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public IntArrayList() {
+        array = new int[10];
+        size = 0;
+    }
+
+    /**
+     * Appends the specified int to the <b>end</b> of the list.
+     * @param item int to be appended to this list
+     */
+    public void addLast(int item) {
+        ensureCapacity();
+        array[size++] = item;
+    }
+
+    /**
+     * Inserts the specified int at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices).
+     * @param index index at which the specified element is to be inserted
+     * @param item int to be inserted
+     */
+    public void add(int index, int item) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity();
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = item;
+        size++;
+    }
+
+    /**
+     * Removes the int at the specified position in this list. Shifts any
+     * subsequent ints to the left (subtracts one from their indices).
+     * @param index the index of the element to remove
+     * @return the element that was removed from the list
+     */
+    public int remove(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        int temp = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return temp;
+    }
+
+    /**
+     * Returns the int at the specified position in this list.
+     * @param index index of the element to return
+     * @return the int at the specified position in this list
+     */
+    public int get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return array[index];
+    }
+
+    /**
+     * Replaces the int at the specified position in this list with the
+     * specified int.
+     * @param index index of the int to replace
+     * @param item int to be stored at the specified position
+     */
+    public void set(int index, int item) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        array[index] = item;
+    }
+
+    /**
+     * Returns the number of ints in this list.
+     * @return the number of ints in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int.
+     * @param item int to search for
+     * @return the index of the first occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int
+     */
+    public int indexOf(int item) {
+        return IntScan.indexOf(array, 0, size, item);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int.
+     * @param item int to search for
+     * @return the index of the last occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int
+     */
+    public int lastIndexOf(int item) {
+        return IntScan.lastIndexOf(array, 0, size, item);
+    }
+
+    /**
+     * Returns the number of times the specified int occurs in this list.
+     * @param item int to count
+     * @return the number of elements equal to the specified int
+     */
+    public int count(int item) {
+        return IntScan.count(array, 0, size, item);
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified int.
+     * @param item int whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains(int item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Removes all the elements from this list.
+     * @post the capacity of the array should not change
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Writes the elements of this list to the specified file, replacing the
+     * file if it exists. <code>MappedIntList.mapFrom</code> opens the file
+     * again without reading it. The file is replaced atomically, so lists
+     * mapped from the old file keep seeing its old contents.
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void saveTo(Path path) throws IOException {
+        MappedIntList.save(path, size, i -> array[i]);
+    }
+
+    /**
+     * Increases the capacity of the underlying array if it is full.
+     */
+    private void ensureCapacity() {
+        if (size == array.length) {
+            int[] newArray = new int[array.length * 2];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new IntArrayListIterator();
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence
+     * whose <code>nextInt</code> method returns little-i <code>int</code>
+     * values, so loops over it do not box.
+     *
+     * @return a primitive iterator over the elements in this list
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return new IntArrayListIterator();
+    }
+
+    /**
+     * Performs the given action on each element of this list, in order. This
+     * runs as one tight loop inside the list, with no iterator object and no
+     * boxing, which makes it the fastest way to visit every element.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        for(int i = 0; i < size; i++){
+            action.accept(array[i]);
+        }
+    }
+
+    private class IntArrayListIterator implements PrimitiveIterator.OfInt {
+        private int currentIndex = 0;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[currentIndex++];
+        }
+
+        /**
+         * Returns the next element in the iteration without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[currentIndex++];
+        }
+    }
+}
@@ -0,0 +1,193 @@
+import java.util.Arrays;
+
+/**
+ * The IntIntHashMap class is a small map from <code>int</code> keys to
+ * <code>int</code> values, used by the lists for their value indexes.
+ * <p>
+ * It uses open addressing with linear probing over two parallel arrays, so
+ * nothing is boxed and a lookup usually touches a single cache line. The
+ * table is a power of two in length and is kept at most half full. Key zero
+ * marks an empty slot, so the entry for key zero (if any) is kept in its own
+ * fields. Removal shifts the following entries of the probe run back instead
+ * of leaving tombstones.
+ */
+final class IntIntHashMap
+{
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    // number of entries in the table, not counting key zero
+    private int count;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * Constructs an empty map.
+     */
+    IntIntHashMap() {
+        keys = new int[16];
+        values = new int[16];
+        mask = keys.length - 1;
+    }
+
+    /**
+     * Returns a map with an entry for each of the specified keys, for use as
+     * a set of ints.
+     * @param keys the keys to add
+     * @return a map whose keys are the given keys
+     */
+    static IntIntHashMap keysOf(int... keys) {
+        IntIntHashMap map = new IntIntHashMap();
+        for (int key : keys) {
+            map.put(key, 0);
+        }
+        return map;
+    }
+
+    /**
+     * Returns the value for the specified key, or the default if there is none.
+     * @param key key to look up
+     * @param defaultValue value to return if the key is absent
+     * @return the value for the key, or defaultValue
+     */
+    int get(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == key) {
+                return values[slot];
+            }
+            if (k == 0) {
+                return defaultValue;
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the map has an entry for the specified key.
+     * @param key key to look up
+     * @return true if the key is present
+     */
+    boolean containsKey(int key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == key) {
+                return true;
+            }
+            if (k == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Sets the value for the specified key, replacing any previous value.
+     * @param key key to set
+     * @param value value to store
+     */
+    void put(int key, int value) {
+        if (key == 0) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++count * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key, if there is one.
+     * @param key key to remove
+     */
+    void remove(int key) {
+        if (key == 0) {
+            hasZeroKey = false;
+            return;
+        }
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // shift back later entries whose probe run passes through the hole
+        int hole = slot;
+        for (int next = (hole + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        keys[hole] = 0;
+        count--;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     * @return the number of entries
+     */
+    int size() {
+        return hasZeroKey ? count + 1 : count;
+    }
+
+    /**
+     * Removes all the entries. The capacity of the table does not change.
+     */
+    void clear() {
+        Arrays.fill(keys, 0);
+        count = 0;
+        hasZeroKey = false;
+    }
+
+    /**
+     * Returns the home slot of a key.
+     * @param key a non-zero key
+     * @return the first slot to probe
+     */
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Moves all entries into a table of the specified length.
+     * @param length new table length, a power of two
+     */
+    private void rehash(int length) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[length];
+        values = new int[length];
+        mask = length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * The IntListCodec class writes <code>MyArrayList</code> and
+ * <code>MyLinkedList</code> contents in a compact binary form and reads them
+ * back.
+ * <p>
+ * Each value is stored as a zigzag varint, so small values of either sign take
+ * one or two bytes instead of four. With delta encoding the difference from
+ * the previous value is stored instead, which makes sorted or mostly sorted
+ * lists, such as lists of ids, several times smaller still.
+ * <p>
+ * The values are written in blocks of at most <code>BLOCK_VALUES</code>. All
+ * numbers outside the varints are little-endian:
+ * <pre>
+ *   int   magic    0x434C5449 ("ITLC")
+ *   byte  flags    1 if delta encoded
+ *   blocks, each:
+ *     int    count     values in the block, 0 for the end of the stream
+ *     int    length    bytes of varints that follow
+ *     int    crc       CRC-32 of those bytes
+ *     byte[] varints
+ * </pre>
+ * Deltas restart at zero in every block. Both directions stream through one
+ * buffer of fixed size, and a block is appended to the target list only after
+ * its checksum has been verified and all of its values have been parsed, so a
+ * corrupt stream never leaves garbage at the end of the list (earlier, intact
+ * blocks stay appended).
+ */
+public final class IntListCodec
+{
+    static final int MAGIC = 0x434C5449;
+    static final int FLAG_DELTA = 1;
+
+    /**
+     * The largest number of values in one block.
+     */
+    public static final int BLOCK_VALUES = 4096;
+    private static final int BLOCK_HEADER_BYTES = 12;
+    // a 32-bit varint takes at most five bytes
+    private static final int MAX_BLOCK_BYTES = BLOCK_VALUES * 5;
+
+    private IntListCodec() {
+    }
+
+    /**
+     * Writes the elements of the list to the stream. The stream is not closed.
+     * @param list the list to write
+     * @param out the stream to write to
+     * @param delta true to store the differences between consecutive values
+     * @throws IOException if the stream cannot be written
+     */
+    public static void encode(MyArrayList list, OutputStream out, boolean delta) throws IOException {
+        encode(list.intIterator(), Channels.newChannel(out), delta);
+    }
+
+    /**
+     * Writes the elements of the list to the channel. The channel is not closed.
+     * @param list the list to write
+     * @param out the channel to write to
+     * @param delta true to store the differences between consecutive values
+     * @throws IOException if the channel cannot be written
+     */
+    public static void encode(MyArrayList list, WritableByteChannel out, boolean delta) throws IOException {
+        encode(list.intIterator(), out, delta);
+    }
+
+    /**
+     * Writes the elements of the list to the stream. The stream is not closed.
+     * @param list the list to write
+     * @param out the stream to write to
+     * @param delta true to store the differences between consecutive values
+     * @throws IOException if the stream cannot be written
+     */
+    public static void encode(MyLinkedList list, OutputStream out, boolean delta) throws IOException {
+        encode(list.intIterator(), Channels.newChannel(out), delta);
+    }
+
+    /**
+     * Writes the elements of the list to the channel. The channel is not closed.
+     * @param list the list to write
+     * @param out the channel to write to
+     * @param delta true to store the differences between consecutive values
+     * @throws IOException if the channel cannot be written
+     */
+    public static void encode(MyLinkedList list, WritableByteChannel out, boolean delta) throws IOException {
+        encode(list.intIterator(), out, delta);
+    }
+
+    /**
+     * Reads a stream written by <code>encode</code> and appends its values to
+     * the end of the list. The stream is read up to the end marker only and
+     * is not closed.
+     * @param in the stream to read from
+     * @param target the list to append to
+     * @throws IOException if the stream cannot be read or is corrupt
+     */
+    public static void decode(InputStream in, MyArrayList target) throws IOException {
+        decode(Channels.newChannel(in), value -> target.addLast(value));
+    }
+
+    /**
+     * Reads a stream written by <code>encode</code> and appends its values to
+     * the end of the list. The channel is not closed.
+     * @param in the channel to read from
+     * @param target the list to append to
+     * @throws IOException if the channel cannot be read or is corrupt
+     */
+    public static void decode(ReadableByteChannel in, MyArrayList target) throws IOException {
+        decode(in, value -> target.addLast(value));
+    }
+
+    /**
+     * Reads a stream written by <code>encode</code> and appends its values to
+     * the end of the list. The stream is read up to the end marker only and
+     * is not closed.
+     * @param in the stream to read from
+     * @param target the list to append to
+     * @throws IOException if the stream cannot be read or is corrupt
+     */
+    public static void decode(InputStream in, MyLinkedList target) throws IOException {
+        decode(Channels.newChannel(in), value -> target.add(target.size(), value));
+    }
+
+    /**
+     * Reads a stream written by <code>encode</code> and appends its values to
+     * the end of the list. The channel is not closed.
+     * @param in the channel to read from
+     * @param target the list to append to
+     * @throws IOException if the channel cannot be read or is corrupt
+     */
+    public static void decode(ReadableByteChannel in, MyLinkedList target) throws IOException {
+        // appending at size() is one step from the list's finger, not a walk
+        decode(in, value -> target.add(target.size(), value));
+    }
+
+    private static void encode(PrimitiveIterator.OfInt values, WritableByteChannel out, boolean delta)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_HEADER_BYTES + MAX_BLOCK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32 crc = new CRC32();
+        buffer.putInt(MAGIC).put((byte) (delta ? FLAG_DELTA : 0));
+        writeFully(out, buffer);
+
+        while (values.hasNext()) {
+            buffer.position(BLOCK_HEADER_BYTES);
+            int count = 0;
+            int previous = 0;
+            while (count < BLOCK_VALUES && values.hasNext()) {
+                int value = values.nextInt();
+                writeVarint(buffer, zigzag(delta ? value - previous : value));
+                previous = value;
+                count++;
+            }
+            int length = buffer.position() - BLOCK_HEADER_BYTES;
+            crc.reset();
+            crc.update(buffer.array(), BLOCK_HEADER_BYTES, length);
+            buffer.putInt(0, count).putInt(4, length).putInt(8, (int) crc.getValue());
+            writeFully(out, buffer);
+        }
+        buffer.putInt(0).putInt(0).putInt(0);
+        writeFully(out, buffer);
+    }
+
+    private static void decode(ReadableByteChannel in, IntConsumer append) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_HEADER_BYTES + MAX_BLOCK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        int[] values = new int[BLOCK_VALUES];
+        CRC32 crc = new CRC32();
+        readFully(in, buffer, 5);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an encoded list");
+        }
+        boolean delta = (buffer.get(4) & FLAG_DELTA) != 0;
+
+        while (true) {
+            readFully(in, buffer, BLOCK_HEADER_BYTES);
+            int count = buffer.getInt(0);
+            int length = buffer.getInt(4);
+            int expectedCrc = buffer.getInt(8);
+            if (count == 0) {
+                return;
+            }
+            if (count < 0 || count > BLOCK_VALUES || length < count || length > MAX_BLOCK_BYTES) {
+                throw new IOException("Corrupt block header");
+            }
+            readFully(in, buffer, length);
+            crc.reset();
+            crc.update(buffer.array(), 0, length);
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("Block checksum mismatch");
+            }
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                if (!buffer.hasRemaining()) {
+                    throw new IOException("Block ends inside a value");
+                }
+                int value = unzigzag(readVarint(buffer));
+                if (delta) {
+                    value += previous;
+                }
+                values[i] = value;
+                previous = value;
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Block has bytes after its last value");
+            }
+            for (int i = 0; i < count; i++) {
+                append.accept(values[i]);
+            }
+        }
+    }
+
+    /**
+     * Maps signed ints to unsigned ones so that values near zero, of either
+     * sign, become small: 0, -1, 1, -2, 2 become 0, 1, 2, 3, 4.
+     */
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IOException("Block ends inside a value");
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint is too long");
+    }
+
+    /**
+     * Writes the buffer from its start up to its position, then clears it.
+     */
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Reads exactly the specified number of bytes into the start of the
+     * buffer, leaving them between position 0 and the limit.
+     */
+    private static void readFully(ReadableByteChannel in, ByteBuffer buffer, int bytes) throws IOException {
+        buffer.clear().limit(bytes);
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                throw new EOFException("Encoded list ends too early");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * The IntScan class holds the linear searches over <code>int[]</code> ranges
+ * used by the primitive lists.
+ * <p>
+ * When the incubating <code>jdk.incubator.vector</code> module is present
+ * (the JVM was started with <code>--add-modules jdk.incubator.vector</code>),
+ * ranges of at least <code>VECTOR_THRESHOLD</code> elements are handed to
+ * <code>VectorIntScan</code>, which compares a whole SIMD register of
+ * elements per step. Otherwise, and for short ranges, a plain loop is used.
+ * <code>VectorIntScan</code> is only loaded once the module is known to be
+ * there, so the lists keep working without it.
+ */
+final class IntScan
+{
+    /**
+     * Whether the Vector API can be used in this JVM.
+     */
+    static final boolean VECTORIZED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // below this many elements the scalar loop wins
+    private static final int VECTOR_THRESHOLD = 32;
+
+    private IntScan() {
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value in
+     * <code>a[from]</code> up to (but not including) <code>a[to]</code>.
+     * @param a array to search
+     * @param from first index to search
+     * @param to end of the range, exclusive
+     * @param value value to search for
+     * @return the index of the first occurrence, or -1 if there is none
+     */
+    static int indexOf(int[] a, int from, int to, int value) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorIntScan.indexOf(a, from, to, value);
+        }
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of a value in
+     * <code>a[from]</code> up to (but not including) <code>a[to]</code>.
+     * @param a array to search
+     * @param from first index to search
+     * @param to end of the range, exclusive
+     * @param value value to search for
+     * @return the index of the last occurrence, or -1 if there is none
+     */
+    static int lastIndexOf(int[] a, int from, int to, int value) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorIntScan.lastIndexOf(a, from, to, value);
+        }
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of occurrences of a value in <code>a[from]</code>
+     * up to (but not including) <code>a[to]</code>.
+     * @param a array to search
+     * @param from first index to search
+     * @param to end of the range, exclusive
+     * @param value value to count
+     * @return the number of occurrences
+     */
+    static int count(int[] a, int from, int to, int value) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorIntScan.count(a, from, to, value);
+        }
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,263 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+
+/**
+ * The ListMetrics class counts what <code>MyArrayList</code> and
+ * <code>MyLinkedList</code> spend their time on, to find lists that grow
+ * constantly or are walked in O(n) loops.
+ * <p>
+ * The counters are off unless the JVM is started with
+ * <code>-Dlists.metrics=true</code>. Every hook in the lists is guarded by the
+ * <code>static final</code> flag <code>ENABLED</code>, which the JIT compiler
+ * treats as a constant, so when metrics are off the hooks are compiled away
+ * and cost nothing.
+ * <p>
+ * When they are on, each list class has one <code>ListMetrics</code> holding
+ * <code>LongAdder</code> counters, which stay cheap when many threads update
+ * them. The counters are shared by all lists of a class. They are published
+ * in three ways:
+ * <ul>
+ *   <li>as an MXBean named <code>lists:type=ListMetrics,name=&lt;class&gt;</code>,
+ *   for JConsole or any JMX client;</li>
+ *   <li>as a periodic JDK Flight Recorder event, <code>lists.Metrics</code>,
+ *   one per list class each second by default;</li>
+ *   <li>as a <code>lists.Grow</code> Flight Recorder event each time a
+ *   <code>MyArrayList</code>'s array grows, with the capacity before and
+ *   after.</li>
+ * </ul>
+ */
+public final class ListMetrics implements ListMetricsMXBean
+{
+    /**
+     * Whether the lists record metrics, read once from the
+     * <code>lists.metrics</code> system property.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("lists.metrics");
+
+    /**
+     * The counters of all <code>MyArrayList</code>s.
+     */
+    public static final ListMetrics ARRAY_LIST = new ListMetrics("MyArrayList");
+
+    /**
+     * The counters of all <code>MyLinkedList</code>s.
+     */
+    public static final ListMetrics LINKED_LIST = new ListMetrics("MyLinkedList");
+
+    static {
+        if (ENABLED) {
+            ARRAY_LIST.register();
+            LINKED_LIST.register();
+            FlightRecorder.addPeriodicEvent(MetricsEvent.class, () -> {
+                ARRAY_LIST.emit();
+                LINKED_LIST.emit();
+            });
+        }
+    }
+
+    private final String listClass;
+    private final LongAdder adds = new LongAdder();
+    private final LongAdder removes = new LongAdder();
+    private final LongAdder gets = new LongAdder();
+    private final LongAdder sets = new LongAdder();
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder elementsShifted = new LongAdder();
+    private final LongAdder nodesTraversed = new LongAdder();
+    private final LongAdder grows = new LongAdder();
+
+    private ListMetrics(String listClass) {
+        this.listClass = listClass;
+    }
+
+    void countAdd() {
+        adds.increment();
+    }
+
+    void countAdd(int elements) {
+        adds.add(elements);
+    }
+
+    void countRemove() {
+        removes.increment();
+    }
+
+    void countRemove(int elements) {
+        removes.add(elements);
+    }
+
+    void countGet() {
+        gets.increment();
+    }
+
+    void countSet() {
+        sets.increment();
+    }
+
+    void countSearch() {
+        searches.increment();
+    }
+
+    void countShifted(int elements) {
+        elementsShifted.add(elements);
+    }
+
+    void countTraversed(int nodes) {
+        nodesTraversed.add(nodes);
+    }
+
+    /**
+     * Records that an array grew, and emits a <code>lists.Grow</code> event.
+     * @param before the capacity before growing
+     * @param after the capacity after growing
+     */
+    void countGrow(int before, int after) {
+        grows.increment();
+        GrowEvent event = new GrowEvent();
+        if (event.shouldCommit()) {
+            event.listClass = listClass;
+            event.capacityBefore = before;
+            event.capacityAfter = after;
+            event.commit();
+        }
+    }
+
+    @Override
+    public String getListClass() {
+        return listClass;
+    }
+
+    @Override
+    public long getAdds() {
+        return adds.sum();
+    }
+
+    @Override
+    public long getRemoves() {
+        return removes.sum();
+    }
+
+    @Override
+    public long getGets() {
+        return gets.sum();
+    }
+
+    @Override
+    public long getSets() {
+        return sets.sum();
+    }
+
+    @Override
+    public long getSearches() {
+        return searches.sum();
+    }
+
+    @Override
+    public long getElementsShifted() {
+        return elementsShifted.sum();
+    }
+
+    @Override
+    public long getNodesTraversed() {
+        return nodesTraversed.sum();
+    }
+
+    @Override
+    public long getGrows() {
+        return grows.sum();
+    }
+
+    @Override
+    public void reset() {
+        adds.reset();
+        removes.reset();
+        gets.reset();
+        sets.reset();
+        searches.reset();
+        elementsShifted.reset();
+        nodesTraversed.reset();
+        grows.reset();
+    }
+
+    private void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName("lists:type=ListMetrics,name=" + listClass));
+        } catch (JMException e) {
+            // metrics are a diagnostic aid; a name clash must not break the lists
+        }
+    }
+
+    private void emit() {
+        MetricsEvent event = new MetricsEvent();
+        event.listClass = listClass;
+        event.adds = getAdds();
+        event.removes = getRemoves();
+        event.gets = getGets();
+        event.sets = getSets();
+        event.searches = getSearches();
+        event.elementsShifted = getElementsShifted();
+        event.nodesTraversed = getNodesTraversed();
+        event.grows = getGrows();
+        event.commit();
+    }
+
+    @Name("lists.Grow")
+    @Label("List Grow")
+    @Category("Lists")
+    @Description("The backing array of a list grew")
+    static final class GrowEvent extends Event
+    {
+        @Label("List Class")
+        String listClass;
+
+        @Label("Capacity Before")
+        int capacityBefore;
+
+        @Label("Capacity After")
+        int capacityAfter;
+    }
+
+    @Name("lists.Metrics")
+    @Label("List Metrics")
+    @Category("Lists")
+    @Description("Running totals of the operations on one list class")
+    @Period("1 s")
+    static final class MetricsEvent extends Event
+    {
+        @Label("List Class")
+        String listClass;
+
+        @Label("Adds")
+        long adds;
+
+        @Label("Removes")
+        long removes;
+
+        @Label("Gets")
+        long gets;
+
+        @Label("Sets")
+        long sets;
+
+        @Label("Searches")
+        long searches;
+
+        @Label("Elements Shifted")
+        long elementsShifted;
+
+        @Label("Nodes Traversed")
+        long nodesTraversed;
+
+        @Label("Grows")
+        long grows;
+    }
+}
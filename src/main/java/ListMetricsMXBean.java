@@ -0,0 +1,67 @@
+/**
+ * The management interface of <code>ListMetrics</code>: running totals of the
+ * operations on one list class, since the JVM started or the last
+ * <code>reset</code>.
+ */
+public interface ListMetricsMXBean
+{
+    /**
+     * Returns the simple name of the list class these counters belong to.
+     * @return the list class
+     */
+    String getListClass();
+
+    /**
+     * Returns the number of elements added.
+     * @return the number of adds
+     */
+    long getAdds();
+
+    /**
+     * Returns the number of elements removed.
+     * @return the number of removes
+     */
+    long getRemoves();
+
+    /**
+     * Returns the number of calls to <code>get</code>.
+     * @return the number of gets
+     */
+    long getGets();
+
+    /**
+     * Returns the number of calls to <code>set</code>.
+     * @return the number of sets
+     */
+    long getSets();
+
+    /**
+     * Returns the number of calls to <code>indexOf</code> and
+     * <code>contains</code>.
+     * @return the number of searches
+     */
+    long getSearches();
+
+    /**
+     * Returns the number of elements moved to open or close a slot in an array.
+     * @return the number of elements shifted
+     */
+    long getElementsShifted();
+
+    /**
+     * Returns the number of nodes stepped over to reach an index or a value.
+     * @return the number of nodes traversed
+     */
+    long getNodesTraversed();
+
+    /**
+     * Returns the number of times a backing array grew.
+     * @return the number of grows
+     */
+    long getGrows();
+
+    /**
+     * Sets all the counters back to zero.
+     */
+    void reset();
+}
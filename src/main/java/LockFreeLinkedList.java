@@ -0,0 +1,329 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The LockFreeLinkedList class is a singly-linked list of Integers that many
+ * threads can add to and remove from at once without any locks.
+ * <p>
+ * Every change is a single compare-and-set (through a <code>VarHandle</code>)
+ * on one field, so a thread that is delayed in the middle of an operation
+ * never stops the others from finishing theirs.
+ * <ul>
+ *   <li><code>addFirst</code> swings the head to the new node.</li>
+ *   <li><code>remove</code> deletes a node <i>logically</i> by setting its
+ *   value to null. That is the moment the element leaves the list, and
+ *   exactly one thread can win it. The node is then unlinked as in Harris's
+ *   list: a marker node is placed after it, which freezes its
+ *   <code>next</code> field, and then its predecessor is swung past it. The
+ *   marker keeps two adjacent removals from undoing each other.</li>
+ *   <li>Any thread that walks into a half-removed node helps finish the
+ *   removal before going on.</li>
+ *   <li><code>contains</code>, <code>size</code> and iteration only read, and
+ *   skip removed nodes.</li>
+ * </ul>
+ * Iterators are weakly consistent: they never throw
+ * <code>ConcurrentModificationException</code>, and they return each element
+ * at most once. Elements added or removed after the iterator was created may
+ * or may not be seen. <code>size</code> counts the nodes, so it is O(n) and
+ * only a snapshot.
+ */
+public class LockFreeLinkedList implements Iterable<Integer>
+{
+    private static final VarHandle NEXT;
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            VALUE = lookup.findVarHandle(Node.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * A node holds an Integer while it is in the list, null once it has been
+     * removed, and a reference to itself if it is a marker.
+     */
+    private static final class Node {
+        volatile Object value;
+        volatile Node next;
+
+        Node(Object value, Node next) {
+            this.value = value;
+            this.next = next;
+        }
+
+        /**
+         * Creates a marker node in front of the specified node.
+         */
+        Node(Node next) {
+            this.value = this;
+            this.next = next;
+        }
+
+        boolean isMarker() {
+            return value == this;
+        }
+
+        boolean casNext(Node expected, Node next) {
+            return NEXT.compareAndSet(this, expected, next);
+        }
+
+        boolean casValue(Object expected, Object value) {
+            return VALUE.compareAndSet(this, expected, value);
+        }
+
+        /**
+         * Helps to unlink this removed node, whose predecessor is b and whose
+         * successor is f: first marks it, then swings b past it. Does nothing if
+         * either link has already changed.
+         */
+        void helpDelete(Node b, Node f) {
+            if (f == next && this == b.next) {
+                if (f == null || !f.isMarker()) {
+                    casNext(f, new Node(f));
+                }
+                else {
+                    b.casNext(this, f.next);
+                }
+            }
+        }
+    }
+
+    // a sentinel whose value is never examined, so it is never removed
+    private final Node head = new Node(Boolean.TRUE, null);
+
+    /**
+     * Constructs an empty list.
+     */
+    public LockFreeLinkedList() {
+    }
+
+    /**
+     * Inserts the specified element at the <b>front</b> of the list.
+     * @param item element to be inserted
+     * @throws NullPointerException if the item is null
+     */
+    public void addFirst(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        Node node = new Node(item, null);
+        while(true){
+            Node first = head.next;
+            node.next = first;
+            if(head.casNext(first, node)){
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if
+     * it is present.
+     * @param item element to be removed
+     * @return true if this call removed the element
+     * @throws NullPointerException if the item is null
+     */
+    public boolean remove(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        restart:
+        while(true){
+            Node b = head;
+            Node n = b.next;
+            while(n != null){
+                Node f = n.next;
+                Object v = n.value;
+                if(n != b.next){
+                    // b changed under us; re-read it
+                    continue restart;
+                }
+                if(v == null){
+                    n.helpDelete(b, f);
+                    if(b.value == null){
+                        continue restart;
+                    }
+                    n = b.next;
+                    continue;
+                }
+                if(v == n){
+                    // n is a marker, so b has been removed
+                    continue restart;
+                }
+                if(item.equals(v)){
+                    if(!n.casValue(v, null)){
+                        // another thread removed n first; look at it again
+                        continue;
+                    }
+                    unlink(b, n);
+                    return true;
+                }
+                b = n;
+                n = f;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Unlinks a node that this thread has just removed. This is best effort:
+     * if b has changed, the node stays in place and the next
+     * <code>remove</code> that passes it finishes the job.
+     */
+    private static void unlink(Node b, Node n) {
+        while(true){
+            Node f = n.next;
+            if(f != null && f.isMarker()){
+                b.casNext(n, f.next);
+                return;
+            }
+            if(n.casNext(f, new Node(f))){
+                b.casNext(n, f);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified element.
+     * @param item element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     * @throws NullPointerException if the item is null
+     */
+    public boolean contains(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        for(Node n = head.next; n != null; n = n.next){
+            Object v = n.value;
+            if(v != null && v != n && item.equals(v)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements in this list. The list is walked to count
+     * them, so the result may be out of date by the time it is returned.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        int count = 0;
+        for(Node n = head.next; n != null; n = n.next){
+            Object v = n.value;
+            if(v != null && v != n){
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        for(Node n = head.next; n != null; n = n.next){
+            Object v = n.value;
+            if(v != null && v != n){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns a weakly consistent iterator over the elements in this list,
+     * front to back.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new LockFreeLinkedListIterator();
+    }
+
+    private class LockFreeLinkedListIterator implements Iterator<Integer> {
+        private Node nextNode;
+        private Integer nextValue;
+        private Node lastNode;
+        private Integer lastValue;
+
+        LockFreeLinkedListIterator() {
+            advance(head);
+        }
+
+        /**
+         * Moves to the first element after the specified node that has not
+         * been removed, remembering its value.
+         */
+        private void advance(Node from) {
+            for(Node n = from.next; n != null; n = n.next){
+                Object v = n.value;
+                if(v != null && v != n){
+                    nextNode = n;
+                    nextValue = (Integer) v;
+                    return;
+                }
+            }
+            nextNode = null;
+            nextValue = null;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastNode = nextNode;
+            lastValue = nextValue;
+            advance(lastNode);
+            return lastValue;
+        }
+
+        /**
+         * Removes the element last returned by <code>next</code>, unless another
+         * thread has removed it already. The node is unlinked by a later
+         * <code>remove</code> that passes it.
+         *
+         * @throws IllegalStateException if <code>next</code> has not been called
+         * since the last call to this method
+         */
+        @Override
+        public void remove() {
+            if (lastNode == null) {
+                throw new IllegalStateException();
+            }
+            lastNode.casValue(lastValue, null);
+            lastNode = null;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The MappedIntList class is a fixed-size list of ints that reads its
+ * elements straight from a file written by <code>saveTo</code>.
+ * <p>
+ * <code>mapFrom</code> maps the file into memory with
+ * <code>FileChannel.map</code> instead of reading it, so opening a list costs
+ * the same however long it is. The operating system loads pages of the file
+ * the first time they are touched. <code>mapFrom(path)</code> gives a
+ * read-only view, and <code>mapFrom(path, true)</code> a copy-on-write view
+ * whose <code>set</code> changes only this view, never the file.
+ * <p>
+ * The file is a 16 byte header followed by the elements, all little-endian:
+ * <pre>
+ *   int   magic    0x4C495354 ("LIST")
+ *   int   version  1
+ *   long  size     the number of elements
+ *   int[] elements
+ * </pre>
+ * A single mapping covers at most 2^31 bytes, so the elements are mapped in
+ * regions of <code>REGION_SIZE</code> ints, and the indices are
+ * <code>long</code>s as in <code>OffHeapIntList</code>.
+ */
+public class MappedIntList implements Iterable<Integer>, AutoCloseable
+{
+    static final int MAGIC = 0x4C495354;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+
+    /**
+     * The number of ints covered by each mapping (2^28 ints, or 1 GiB).
+     */
+    public static final int REGION_SIZE = 1 << 28;
+    private static final int REGION_SHIFT = 28;
+    private static final int REGION_MASK = REGION_SIZE - 1;
+
+    private MappedByteBuffer[] regions;
+    private final long size;
+    private final boolean readOnly;
+
+    private MappedIntList(MappedByteBuffer[] regions, long size, boolean readOnly) {
+        this.regions = regions;
+        this.size = size;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Returns a read-only list over the elements saved in the specified file.
+     * @param path a file written by <code>saveTo</code>
+     * @return a list view of the file
+     * @throws IOException if the file cannot be read or is not a list file
+     */
+    public static MappedIntList mapFrom(Path path) throws IOException {
+        return mapFrom(path, false);
+    }
+
+    /**
+     * Returns a list over the elements saved in the specified file. A
+     * copy-on-write list allows <code>set</code>, but the changes are private
+     * to the list and are never written to the file. The file must still be
+     * writable, since the platform only maps privately from a writable channel.
+     * @param path a file written by <code>saveTo</code>
+     * @param copyOnWrite true to allow <code>set</code> on the returned list
+     * @return a list view of the file
+     * @throws IOException if the file cannot be read or is not a list file
+     */
+    public static MappedIntList mapFrom(Path path, boolean copyOnWrite) throws IOException {
+        // a private mapping needs a writable channel, though it never writes
+        FileChannel channel = copyOnWrite
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        try (channel) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Not a list file: " + path);
+                }
+            }
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a list file: " + path);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported list file version " + header.getInt(4));
+            }
+            long size = header.getLong(8);
+            if (size < 0 || channel.size() != HEADER_BYTES + size * Integer.BYTES) {
+                throw new IOException("Truncated list file: " + path);
+            }
+
+            // the mappings stay valid after the channel is closed
+            FileChannel.MapMode mode = copyOnWrite ? FileChannel.MapMode.PRIVATE : FileChannel.MapMode.READ_ONLY;
+            int count = (int) ((size + REGION_SIZE - 1) >>> REGION_SHIFT);
+            MappedByteBuffer[] regions = new MappedByteBuffer[count];
+            for (int r = 0; r < count; r++) {
+                long first = (long) r << REGION_SHIFT;
+                long length = Math.min(REGION_SIZE, size - first) * Integer.BYTES;
+                regions[r] = channel.map(mode, HEADER_BYTES + first * Integer.BYTES, length);
+                regions[r].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedIntList(regions, size, !copyOnWrite);
+        }
+    }
+
+    /**
+     * Writes a list file holding the specified elements, replacing the file if
+     * it exists. The lists' <code>saveTo</code> methods call this.
+     * <p>
+     * The file is never rewritten in place: that would corrupt it if the
+     * write failed halfway, and truncating a file that a
+     * <code>MappedIntList</code> still maps makes reads through the mapping
+     * crash. Instead the elements go to a temporary file in the same
+     * directory, which is forced to disk and then atomically moved over the
+     * target. Lists already mapped from the old file keep reading the old
+     * contents.
+     * <p>
+     * The temporary file is created like any other new file, so its
+     * permissions follow the umask, and when it replaces an existing file it
+     * takes over that file's POSIX permissions first.
+     * @param path the file to write
+     * @param size the number of elements
+     * @param elementAt returns the element at each index from 0 to size - 1
+     * @throws IOException if the file cannot be written
+     */
+    static void save(Path path, int size, IntUnaryOperator elementAt) throws IOException {
+        Path target = path.toAbsolutePath();
+        // not Files.createTempFile, which would make the file owner-only
+        Path temp = null;
+        FileChannel channel = null;
+        while (channel == null) {
+            Path candidate = target.resolveSibling(target.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                channel = FileChannel.open(candidate, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                temp = candidate;
+            } catch (FileAlreadyExistsException e) {
+                // another save picked the same name; draw another
+            }
+        }
+        try {
+            try (FileChannel out = channel) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC).putInt(VERSION).putLong(size);
+                for (int i = 0; i < size; i++) {
+                    if (!buffer.hasRemaining()) {
+                        writeFully(out, buffer);
+                    }
+                    buffer.putInt(elementAt.applyAsInt(i));
+                }
+                writeFully(out, buffer);
+                out.force(true);
+            }
+            copyPermissions(target, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            // gone already if the move succeeded
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Gives the new file the POSIX permissions of the file it is about to
+     * replace, if there is one and the file system has them.
+     */
+    private static void copyPermissions(Path from, Path to) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(from, PosixFileAttributeView.class);
+        if (view == null) {
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(to, view.readAttributes().permissions());
+        } catch (NoSuchFileException e) {
+            // nothing to replace, so the new file keeps its default permissions
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Returns the int at the specified position in this list.
+     * @param index index of the element to return
+     * @return the int at the specified position in this list
+     */
+    public int get(long index) {
+        ensureOpen();
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return regions[(int) (index >>> REGION_SHIFT)].getInt((int) (index & REGION_MASK) << 2);
+    }
+
+    /**
+     * Replaces the int at the specified position in this copy-on-write list.
+     * The file is not changed.
+     * @param index index of the int to replace
+     * @param item int to be stored at the specified position
+     * @throws UnsupportedOperationException if this list is read-only
+     */
+    public void set(long index, int item) {
+        ensureOpen();
+        if(readOnly){
+            throw new UnsupportedOperationException("The list is read-only");
+        }
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        regions[(int) (index >>> REGION_SHIFT)].putInt((int) (index & REGION_MASK) << 2, item);
+    }
+
+    /**
+     * Returns the number of ints in this list.
+     * @return the number of ints in this list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>set</code> is not allowed on this list.
+     * @return true if this list is read-only
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int.
+     * @param item int to search for
+     * @return the index of the first occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int
+     */
+    public long indexOf(int item) {
+        ensureOpen();
+        for(int r = 0; r < regions.length; r++){
+            MappedByteBuffer region = regions[r];
+            int limit = region.capacity() >>> 2;
+            for(int i = 0; i < limit; i++){
+                if(region.getInt(i << 2) == item){
+                    return ((long) r << REGION_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified int.
+     * @param item int whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains(int item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Performs the given action on each element of this list, in order.
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        ensureOpen();
+        for(MappedByteBuffer region : regions){
+            int limit = region.capacity() >>> 2;
+            for(int i = 0; i < limit; i++){
+                action.accept(region.getInt(i << 2));
+            }
+        }
+    }
+
+    /**
+     * Drops the mappings of this list. The operating system releases them
+     * once the buffers are garbage collected. Closing an already closed list
+     * does nothing.
+     */
+    @Override
+    public void close() {
+        regions = null;
+    }
+
+    private void ensureOpen() {
+        if(regions == null){
+            throw new IllegalStateException("The list has been closed");
+        }
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        ensureOpen();
+        return new MappedIntListIterator();
+    }
+
+    private class MappedIntListIterator implements Iterator<Integer> {
+        private long currentIndex = 0;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(currentIndex++);
+        }
+    }
+}
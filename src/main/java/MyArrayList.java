@@ -1,5 +1,17 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The MyArrayList class is the implementation of an array list of integers.
@@ -18,18 +30,94 @@ import java.util.NoSuchElementException;
  * capacity of ten elements. Be sure to avoid the <code>IndexOutOfBoundsException</code>,
  * and you will need to throw the <code>NullPointerException</code> in places
  * as specified in the Javadoc and the JUnit <code>MyArrayListTest</code> class.
+ * <p>
+ * The array is used as a circular buffer: the list starts at index
+ * <code>head</code> and wraps around the end of the array. This makes
+ * <code>addFirst</code>, <code>removeFirst</code>, <code>addLast</code>, and
+ * <code>removeLast</code> cheap, so the list also works as a FIFO queue, and
+ * <code>add</code> and <code>remove</code> only shift the shorter side.
+ * <p>
+ * For lookup-heavy lists, <code>enableValueIndex</code> adds a hash index
+ * from each value to its number of occurrences and its first position, so
+ * that <code>contains</code> and <code>indexOf</code> take O(1) expected time.
+ * Positions are stored relative to an offset, so edits at either end keep
+ * the index exact in O(1): an edit at the front moves the offset instead of
+ * every position. When the removed or overwritten element was the first
+ * copy of its value, only that value's position is forgotten, and the next
+ * <code>indexOf</code> for it scans up to its new first copy. An edit in the
+ * middle marks all positions stale, and they are rebuilt in one pass by the
+ * next <code>indexOf</code>.
+ * <p>
+ * The capacity grows by a configurable factor (two by default) and can be
+ * set up front with a constructor or <code>ensureCapacity</code>. When
+ * removals leave the array less than a quarter full, it is halved (but never
+ * below the initial capacity); the gap between the grow and shrink points
+ * keeps a list that hovers around one size from resizing over and over.
+ * <code>trimToSize</code> releases all spare capacity at once, and removed
+ * elements are always cleared from the array so they can be collected.
+ * <p>
+ * With <code>-Dlists.metrics=true</code>, the list reports its operations,
+ * shifted elements and array growth to <code>ListMetrics</code>.
  */
 public class MyArrayList implements Iterable<Integer>
 {
     private Integer[] array;
+    private int head;
     private int size;
+    // value index: null unless enabled; positions are only valid when not stale,
+    // are stored plus firstIndexOffset, and a missing position means unknown
+    private IntIntHashMap counts;
+    private IntIntHashMap firstIndex;
+    private boolean firstIndexStale;
+    private int firstIndexOffset;
+    // number of structural changes, checked by the list iterators
+    private int modCount;
+    // while a list iterator edits, gapLength empty slots sit before list index
+    // gapStart; every other method closes the gap first
+    private int gapStart;
+    private int gapLength;
+    // the array is never shrunk below this capacity automatically
+    private final int minCapacity;
+    private final double growthFactor;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
 
     /**
      * Constructs an empty list with an initial capacity of ten.
      */
     public MyArrayList() {
-        array = new Integer[10];
+        this(10);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity, which is
+     * also the smallest capacity the list will shrink back to.
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyArrayList(int initialCapacity) {
+        this(initialCapacity, 2.0);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth
+     * factor. A smaller factor wastes less memory on large lists at the cost
+     * of more frequent copying.
+     * @param initialCapacity the initial capacity of the list
+     * @param growthFactor how much the capacity is multiplied by when the
+     * array is full; must be greater than one
+     * @throws IllegalArgumentException if initialCapacity is negative or
+     * growthFactor is not greater than one
+     */
+    public MyArrayList(int initialCapacity, double growthFactor) {
+        if(initialCapacity < 0 || !(growthFactor > 1.0)){
+            throw new IllegalArgumentException();
+        }
+        array = new Integer[initialCapacity];
+        head = 0;
         size = 0;
+        this.minCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
     }
 
     /**
@@ -38,11 +126,39 @@ public class MyArrayList implements Iterable<Integer>
      * @throws NullPointerException if item is null
      */
     public void addLast(Integer item) {
+        closeGap();
+        if(item == null){
+            throw new NullPointerException();
+        }
+        ensureCapacity();
+        array[physical(size)] = item;
+        size++;
+        modCount++;
+        indexAdded(size - 1, item, false);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countAdd();
+        }
+    }
+
+    /**
+     * Inserts the specified Integer at the <b>beginning</b> of the list.
+     * @param item Integer to be inserted
+     * @throws NullPointerException if item is null
+     */
+    public void addFirst(Integer item) {
+        closeGap();
         if(item == null){
             throw new NullPointerException();
         }
         ensureCapacity();
-        array[size++] = item;
+        head = head == 0 ? array.length - 1 : head - 1;
+        array[head] = item;
+        size++;
+        modCount++;
+        indexAddedFirst(item);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countAdd();
+        }
     }
 
     /**
@@ -54,6 +170,7 @@ public class MyArrayList implements Iterable<Integer>
      * @throws NullPointerException if item is null
      */
     public void add(int index, Integer item) {
+        closeGap();
         if(item == null){
             throw new NullPointerException();
         }
@@ -61,11 +178,118 @@ public class MyArrayList implements Iterable<Integer>
             throw new IndexOutOfBoundsException();
         }
         ensureCapacity();
-        for(int i = size; i > index; i--){
-            array[i] = array[i - 1];
+        if(index < size / 2){
+            // open the slot by moving the front part one step to the left
+            head = head == 0 ? array.length - 1 : head - 1;
+            copyWithin(1, 0, index);
+        }
+        else{
+            copyWithin(index, index + 1, size - index);
         }
-        array[index] = item;
+        array[physical(index)] = item;
         size++;
+        modCount++;
+        if(index == 0){
+            indexAddedFirst(item);
+        }
+        else{
+            indexAdded(index, item, index < size - 1);
+        }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countAdd();
+        }
+    }
+
+    /**
+     * Appends all of the specified ints to the <b>end</b> of the list, in order.
+     * The array is grown at most once.
+     * @param items ints to be appended to this list
+     * @throws NullPointerException if items is null
+     */
+    public void addAll(int[] items) {
+        addAll(size, items);
+    }
+
+    /**
+     * Appends all of the Integers in the specified list to the <b>end</b> of
+     * this list, in order. The array is grown at most once and the elements
+     * are moved with one block copy.
+     * @param other list whose Integers are to be appended to this list
+     * @throws NullPointerException if other is null
+     */
+    public void addAll(MyArrayList other) {
+        if(other == null){
+            throw new NullPointerException();
+        }
+        closeGap();
+        other.closeGap();
+        int count = other.size;
+        ensureCapacity(size + count);
+        int copied = 0;
+        while(copied < count){
+            int from = other.physical(copied);
+            int to = physical(size + copied);
+            int run = Math.min(count - copied,
+                    Math.min(other.array.length - from, array.length - to));
+            System.arraycopy(other.array, from, array, to, run);
+            copied += run;
+        }
+        size += count;
+        modCount++;
+        if(counts != null){
+            for(int i = size - count; i < size; i++){
+                indexAdded(i, array[physical(i)], false);
+            }
+        }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countAdd(count);
+        }
+    }
+
+    /**
+     * Inserts all of the specified ints at the specified position in this list,
+     * in order. Shifts the element currently in that position (if any) and any
+     * subsequent elements to the right by the number of ints inserted. The
+     * array is grown at most once and the shorter side is moved with one block
+     * copy, so inserting k ints costs O(n + k).
+     * @param index index at which the first int is to be inserted
+     * @param items ints to be inserted
+     * @throws NullPointerException if items is null
+     */
+    public void addAll(int index, int[] items) {
+        closeGap();
+        if(items == null){
+            throw new NullPointerException();
+        }
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        int count = items.length;
+        ensureCapacity(size + count);
+        if(index < size / 2){
+            head -= count;
+            if(head < 0){
+                head += array.length;
+            }
+            copyWithin(count, 0, index);
+        }
+        else{
+            copyWithin(index, index + count, size - index);
+        }
+        for(int i = 0; i < count; i++){
+            array[physical(index + i)] = items[i];
+        }
+        boolean shifted = index < size;
+        size += count;
+        modCount++;
+        if(counts != null){
+            for(int i = 0; i < count; i++){
+                indexAdded(index + i, items[i], shifted);
+            }
+        }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countAdd(count);
+        }
     }
 
     /**
@@ -75,27 +299,175 @@ public class MyArrayList implements Iterable<Integer>
      * @return the element that was removed from the list
      */
     public Integer remove(int index) {
+        closeGap();
         if(index < 0 || index >= size){
             throw new IndexOutOfBoundsException();
         }
-        Integer temp = array[index];
-        for(int i = index; i < size - 1; i++){
-            array[i] = array[i + 1];
+        Integer temp = array[physical(index)];
+        if(index < size / 2){
+            // close the slot by moving the front part one step to the right
+            copyWithin(0, 1, index);
+            array[head] = null;
+            head = head + 1 == array.length ? 0 : head + 1;
+        }
+        else{
+            copyWithin(index + 1, index, size - index - 1);
+            array[physical(size - 1)] = null;
         }
         size--;
+        modCount++;
+        if(index == 0){
+            indexRemovedFirst(temp);
+        }
+        else{
+            indexRemoved(temp, index < size);
+        }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countRemove();
+        }
+        shrinkIfSparse();
         return temp;
     }
 
+    /**
+     * Removes and returns the first Integer in this list.
+     * @return the Integer that was at the beginning of the list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public Integer removeFirst() {
+        closeGap();
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        Integer temp = array[head];
+        array[head] = null;
+        head = head + 1 == array.length ? 0 : head + 1;
+        size--;
+        modCount++;
+        indexRemovedFirst(temp);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countRemove();
+        }
+        shrinkIfSparse();
+        return temp;
+    }
+
+    /**
+     * Removes and returns the last Integer in this list.
+     * @return the Integer that was at the end of the list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public Integer removeLast() {
+        closeGap();
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        int last = physical(size - 1);
+        Integer temp = array[last];
+        array[last] = null;
+        size--;
+        modCount++;
+        indexRemoved(temp, false);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countRemove();
+        }
+        shrinkIfSparse();
+        return temp;
+    }
+
+    /**
+     * Removes every element of this list that satisfies the given predicate.
+     * The survivors are compacted in one pass with a read and a write
+     * position, so removing k of n elements costs O(n) rather than the
+     * O(n * k) of calling <code>remove</code> k times.
+     * @param filter predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     * @throws NullPointerException if filter is null
+     */
+    public boolean removeIf(IntPredicate filter) {
+        closeGap();
+        if(filter == null){
+            throw new NullPointerException();
+        }
+        int write = 0;
+        int read = 0;
+        try{
+            for(; read < size; read++){
+                Integer value = array[physical(read)];
+                if(filter.test(value)){
+                    indexRemoved(value, true);
+                }
+                else{
+                    if(write != read){
+                        array[physical(write)] = value;
+                    }
+                    write++;
+                }
+            }
+        }
+        finally{
+            // if the filter threw, keep the elements it had not seen yet
+            copyWithin(read, write, size - read);
+            int newSize = write + (size - read);
+            for(int i = newSize; i < size; i++){
+                array[physical(i)] = null;
+            }
+            if(newSize != size){
+                if (ListMetrics.ENABLED) {
+                    ListMetrics.ARRAY_LIST.countRemove(size - newSize);
+                }
+                size = newSize;
+                modCount++;
+                shrinkIfSparse();
+            }
+        }
+        return read != write;
+    }
+
+    /**
+     * Removes every element of this list that matches any of the specified
+     * ints, in one pass (see <code>removeIf</code>).
+     * @param items ints to be removed from this list
+     * @return true if any elements were removed
+     * @throws NullPointerException if items is null
+     */
+    public boolean removeAll(int... items) {
+        if(items == null){
+            throw new NullPointerException();
+        }
+        IntIntHashMap remove = IntIntHashMap.keysOf(items);
+        return removeIf(remove::containsKey);
+    }
+
+    /**
+     * Removes every element of this list that does not match any of the
+     * specified ints, in one pass (see <code>removeIf</code>).
+     * @param items ints to be kept in this list
+     * @return true if any elements were removed
+     * @throws NullPointerException if items is null
+     */
+    public boolean retainAll(int... items) {
+        if(items == null){
+            throw new NullPointerException();
+        }
+        IntIntHashMap keep = IntIntHashMap.keysOf(items);
+        return removeIf(value -> !keep.containsKey(value));
+    }
+
     /**
      * Returns the Integer at the specified position in this list.
      * @param index index of the element to return
      * @return the Integer at the specified position in this list
      */
     public Integer get(int index) {
+        closeGap();
         if(index < 0 || index >= size){
             throw new IndexOutOfBoundsException();
         }
-        return array[index];
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countGet();
+        }
+        return array[physical(index)];
     }
 
     /**
@@ -112,7 +484,28 @@ public class MyArrayList implements Iterable<Integer>
         if(index < 0 || index >= size){
             throw new IndexOutOfBoundsException();
         }
-        array[index] = item;
+        // set does not move elements, so it works around an open gap
+        int slot = slot(index);
+        Integer old = array[slot];
+        array[slot] = item;
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countSet();
+        }
+        if(counts != null){
+            indexRemoved(old, false);
+            if(counts.containsKey(old) && firstPosition(old) == index){
+                // a later copy of the old value is now the first
+                firstIndex.remove(old);
+            }
+            int count = counts.get(item, 0) + 1;
+            counts.put(item, count);
+            if(!firstIndexStale){
+                int first = firstPosition(item);
+                if(count == 1 || (first != -1 && first > index)){
+                    putFirstPosition(item, index);
+                }
+            }
+        }
     }
 
     /**
@@ -132,11 +525,37 @@ public class MyArrayList implements Iterable<Integer>
      * @throws NullPointerException if item is null
      */
     public int indexOf(Integer item) {
+        closeGap();
         if(item == null){
             throw new NullPointerException();
         }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countSearch();
+        }
+        if(counts != null){
+            if(counts.get(item, 0) == 0){
+                return -1;
+            }
+            if(firstIndexStale){
+                rebuildFirstIndex();
+            }
+            int first = firstPosition(item);
+            if(first == -1){
+                first = scanFor(item);
+                putFirstPosition(item, first);
+            }
+            return first;
+        }
+        return scanFor(item);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value, found by a
+     * linear scan, or -1.
+     */
+    private int scanFor(int item) {
         for(int i = 0; i < size; i++){
-            if(array[i].equals(item)){
+            if(array[physical(i)] == item){
                 return i;
             }
         }
@@ -153,6 +572,12 @@ public class MyArrayList implements Iterable<Integer>
         if(item == null){
             throw new NullPointerException();
         }
+        if(counts != null){
+            if (ListMetrics.ENABLED) {
+                ListMetrics.ARRAY_LIST.countSearch();
+            }
+            return counts.get(item, 0) > 0;
+        }
         return indexOf(item) != -1;
     }
 
@@ -161,7 +586,21 @@ public class MyArrayList implements Iterable<Integer>
      * @post the capacity of the array should not change
      */
     public void clear() {
+        if (ListMetrics.ENABLED) {
+            ListMetrics.ARRAY_LIST.countRemove(size);
+        }
+        Arrays.fill(array, null);
+        head = 0;
         size = 0;
+        gapStart = 0;
+        gapLength = 0;
+        modCount++;
+        if(counts != null){
+            counts.clear();
+            firstIndex.clear();
+            firstIndexStale = false;
+            firstIndexOffset = 0;
+        }
     }
 
     /**
@@ -172,16 +611,356 @@ public class MyArrayList implements Iterable<Integer>
         return size == 0;
     }
 
+    /**
+     * Writes the elements of this list to the specified file, replacing the
+     * file if it exists. <code>MappedIntList.mapFrom</code> opens the file
+     * again without reading it. The file is replaced atomically, so lists
+     * mapped from the old file keep seeing its old contents.
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void saveTo(Path path) throws IOException {
+        closeGap();
+        MappedIntList.save(path, size, i -> array[physical(i)]);
+    }
+
+    /**
+     * Turns on the value index, which makes <code>contains</code> and
+     * <code>indexOf</code> O(1) expected time at the cost of a hash update on
+     * every change to the list. Building the index takes one pass over the
+     * list. Does nothing if the index is already on.
+     */
+    public void enableValueIndex() {
+        closeGap();
+        if(counts != null){
+            return;
+        }
+        counts = new IntIntHashMap();
+        firstIndex = new IntIntHashMap();
+        for(int i = 0; i < size; i++){
+            int value = array[physical(i)];
+            counts.put(value, counts.get(value, 0) + 1);
+        }
+        rebuildFirstIndex();
+    }
+
+    /**
+     * Turns off the value index and releases its memory.
+     */
+    public void disableValueIndex() {
+        counts = null;
+        firstIndex = null;
+        firstIndexStale = false;
+    }
+
+    /**
+     * Records an inserted value in the value index, if it is enabled.
+     * @param index the index the value was inserted at
+     * @param item the inserted value
+     * @param shifted whether elements already in the list changed index
+     */
+    private void indexAdded(int index, int item, boolean shifted) {
+        if(counts == null){
+            return;
+        }
+        int count = counts.get(item, 0) + 1;
+        counts.put(item, count);
+        if(shifted){
+            firstIndexStale = true;
+        }
+        else if(count == 1){
+            putFirstPosition(item, index);
+        }
+    }
+
+    /**
+     * Records a value inserted at index 0 in the value index, if it is
+     * enabled. Every other element moved up one, which is a change of offset.
+     * @param item the inserted value
+     */
+    private void indexAddedFirst(int item) {
+        if(counts == null){
+            return;
+        }
+        counts.put(item, counts.get(item, 0) + 1);
+        firstIndexOffset--;
+        putFirstPosition(item, 0);
+    }
+
+    /**
+     * Records a value removed from index 0 in the value index, if it is
+     * enabled. Every other element moved down one, which is a change of
+     * offset; the removed value's position is forgotten if copies remain.
+     * @param item the removed value
+     */
+    private void indexRemovedFirst(int item) {
+        if(counts == null){
+            return;
+        }
+        int count = counts.get(item, 0) - 1;
+        if(count == 0){
+            counts.remove(item);
+        }
+        else{
+            counts.put(item, count);
+        }
+        firstIndex.remove(item);
+        firstIndexOffset++;
+    }
+
+    /**
+     * Returns the recorded first position of a value, or -1 if it is unknown.
+     */
+    private int firstPosition(int item) {
+        if(!firstIndex.containsKey(item)){
+            return -1;
+        }
+        return firstIndex.get(item, 0) - firstIndexOffset;
+    }
+
+    private void putFirstPosition(int item, int index) {
+        firstIndex.put(item, index + firstIndexOffset);
+    }
+
+    /**
+     * Records a removed value in the value index, if it is enabled.
+     * @param item the removed value
+     * @param shifted whether elements still in the list changed index
+     */
+    private void indexRemoved(int item, boolean shifted) {
+        if(counts == null){
+            return;
+        }
+        int count = counts.get(item, 0) - 1;
+        if(count == 0){
+            counts.remove(item);
+            firstIndex.remove(item);
+        }
+        else{
+            counts.put(item, count);
+        }
+        if(shifted){
+            firstIndexStale = true;
+        }
+    }
+
+    /**
+     * Recomputes the first position of every value in one pass.
+     */
+    private void rebuildFirstIndex() {
+        firstIndex.clear();
+        firstIndexOffset = 0;
+        for(int i = 0; i < size; i++){
+            int value = array[physical(i)];
+            if(!firstIndex.containsKey(value)){
+                firstIndex.put(value, i);
+            }
+        }
+        firstIndexStale = false;
+    }
+
+    /**
+     * Returns the number of elements the underlying array can hold before it
+     * has to grow.
+     * @return the capacity of this list
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Increases the capacity of the underlying array, if necessary, so that it
+     * can hold at least the specified number of elements. Calling this before
+     * a known number of additions avoids repeated growth.
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        closeGap();
+        if (minCapacity > array.length) {
+            if (minCapacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required list capacity is too large");
+            }
+            int grown = (int) Math.min(array.length * growthFactor, MAX_CAPACITY);
+            int newCapacity = Math.max(grown, minCapacity);
+            if (ListMetrics.ENABLED) {
+                ListMetrics.ARRAY_LIST.countGrow(array.length, newCapacity);
+            }
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the capacity of the underlying array to the size of the list,
+     * releasing all spare memory.
+     */
+    public void trimToSize() {
+        closeGap();
+        if (size < array.length) {
+            resize(size);
+        }
+    }
+
     /**
      * Increases the capacity of the underlying array if it is full.
      */
     private void ensureCapacity() {
         if (size == array.length) {
-            Integer[] newArray = new Integer[array.length * 2];
-            for (int i = 0; i < size; i++) {
-                newArray[i] = array[i];
+            ensureCapacity(size + 1);
+        }
+    }
+
+    /**
+     * Halves the capacity of the underlying array, as often as needed, while
+     * it is less than a quarter full, but not below the initial capacity.
+     */
+    private void shrinkIfSparse() {
+        int newCapacity = array.length;
+        while (newCapacity > minCapacity && size < newCapacity / 4) {
+            newCapacity /= 2;
+        }
+        if (newCapacity < array.length) {
+            resize(Math.max(minCapacity, newCapacity));
+        }
+    }
+
+    /**
+     * Moves the elements into a new array of the specified length, with one
+     * or two block copies.
+     * @param newCapacity the new capacity, at least the size of the list
+     */
+    private void resize(int newCapacity) {
+        Integer[] newArray = new Integer[newCapacity];
+        // unwrap the circular buffer so the list starts at index 0 again
+        int firstRun = Math.min(size, array.length - head);
+        System.arraycopy(array, head, newArray, 0, firstRun);
+        System.arraycopy(array, 0, newArray, firstRun, size - firstRun);
+        array = newArray;
+        head = 0;
+    }
+
+    /**
+     * Maps a list index to its slot in the circular array.
+     * @param index list index, between zero and the capacity
+     * @return the array index holding that element
+     */
+    private int physical(int index) {
+        int i = head + index;
+        return i < array.length ? i : i - array.length;
+    }
+
+    /**
+     * Maps a list index to its slot in the circular array, stepping over the
+     * gap if one is open.
+     * @param index a valid list index
+     * @return the array index holding that element
+     */
+    private int slot(int index) {
+        return gapLength != 0 && index >= gapStart ? physical(index + gapLength) : physical(index);
+    }
+
+    /**
+     * Moves the gap so that it starts at the specified list index, by moving
+     * the elements between its old and new position across it. The slots the
+     * elements leave are cleared, so the gap always holds nulls.
+     * @param index list index the gap should start at
+     */
+    private void moveGapTo(int index) {
+        if (gapLength != 0) {
+            if (index > gapStart) {
+                copyWithin(gapStart + gapLength, gapStart, index - gapStart);
+                for (int i = Math.max(gapStart + gapLength, index); i < index + gapLength; i++) {
+                    array[physical(i)] = null;
+                }
+            }
+            else if (index < gapStart) {
+                copyWithin(index, index + gapLength, gapStart - index);
+                for (int i = index; i < Math.min(gapStart, index + gapLength); i++) {
+                    array[physical(i)] = null;
+                }
+            }
+        }
+        gapStart = index;
+    }
+
+    /**
+     * Closes the gap left by list iterator edits, if there is one, with one
+     * block move of the shorter side.
+     */
+    private void closeGap() {
+        if (gapLength == 0) {
+            return;
+        }
+        if (gapStart < size - gapStart) {
+            // push the gap to the front and let the head skip over it
+            moveGapTo(0);
+            head = physical(gapLength);
+        }
+        else {
+            // push the gap to the end, where it becomes spare capacity
+            moveGapTo(size);
+        }
+        gapStart = 0;
+        gapLength = 0;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Opens an empty gap of at least one slot at the specified list index,
+     * for a list iterator to insert into. The gap is taken from the spare
+     * capacity at whichever end of the list is nearer, and is large enough
+     * that the elements behind it are moved once for many insertions.
+     * @param index list index the gap should start at
+     */
+    private void openGap(int index) {
+        ensureCapacity();
+        int length = Math.min(array.length - size, Math.max(16, size >>> 3));
+        if (index < size - index) {
+            head -= length;
+            if (head < 0) {
+                head += array.length;
+            }
+            gapStart = 0;
+        }
+        else {
+            gapStart = size;
+        }
+        gapLength = length;
+        moveGapTo(index);
+    }
+
+    /**
+     * Copies a range of the list to another (possibly overlapping) position,
+     * splitting the move into block copies wherever either range wraps around
+     * the end of the array.
+     * @param from list index of the first element to move
+     * @param to list index the first element is moved to
+     * @param count number of elements to move
+     */
+    private void copyWithin(int from, int to, int count) {
+        if (ListMetrics.ENABLED && from != to) {
+            ListMetrics.ARRAY_LIST.countShifted(count);
+        }
+        if (from > to) {
+            // moving left: copy front to back
+            while (count > 0) {
+                int src = physical(from);
+                int dst = physical(to);
+                int run = Math.min(count, Math.min(array.length - src, array.length - dst));
+                System.arraycopy(array, src, array, dst, run);
+                from += run;
+                to += run;
+                count -= run;
+            }
+        }
+        else if (from < to) {
+            // moving right: copy back to front
+            while (count > 0) {
+                int src = physical(from + count - 1);
+                int dst = physical(to + count - 1);
+                int run = Math.min(count, Math.min(src + 1, dst + 1));
+                System.arraycopy(array, src - run + 1, array, dst - run + 1, run);
+                count -= run;
             }
-            array = newArray;
         }
     }
 
@@ -195,10 +974,41 @@ public class MyArrayList implements Iterable<Integer>
      */
     @Override
     public Iterator<Integer> iterator() {
+        closeGap();
+        return new MyArrayListIterator();
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence
+     * whose <code>nextInt</code> method returns little-i <code>int</code>
+     * values, so loops over it do not box.
+     *
+     * @return a primitive iterator over the elements in this list
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        closeGap();
         return new MyArrayListIterator();
     }
 
-    private class MyArrayListIterator implements Iterator<Integer> {
+    /**
+     * Performs the given action on each element of this list, in order. This
+     * runs as one tight loop inside the list, with no iterator object and no
+     * boxing, which makes it the fastest way to visit every element.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        closeGap();
+        if(action == null){
+            throw new NullPointerException();
+        }
+        for(int i = 0; i < size; i++){
+            action.accept(array[physical(i)]);
+        }
+    }
+
+    private class MyArrayListIterator implements PrimitiveIterator.OfInt {
         private int currentIndex = 0;
 
         /**
@@ -224,7 +1034,275 @@ public class MyArrayList implements Iterable<Integer>
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            return array[currentIndex++];
+            return array[slot(currentIndex++)];
+        }
+
+        /**
+         * Returns the next element in the iteration without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[slot(currentIndex++)];
+        }
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the
+     * beginning. Besides moving both ways, it can <code>remove</code>,
+     * <code>set</code>, and <code>add</code> at its position.
+     * <p>
+     * Edits through the iterator are batched: removals widen an empty gap at
+     * the cursor and additions fill it, and the gap only moves (taking the
+     * elements it passes with it) when the cursor has moved between edits.
+     * A pass that removes or inserts k of n elements therefore moves O(n + k)
+     * elements instead of O(n) per edit. The gap is closed with one block
+     * move by the next call to any other method of the list. The iterator
+     * is fail-fast: if the list is structurally changed other than through
+     * the iterator itself, it throws a
+     * <code>ConcurrentModificationException</code>.
+     *
+     * @return a list iterator over the elements in this list
+     */
+    public ListIterator<Integer> listIterator() {
+        return new MyArrayListListIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the
+     * specified position.
+     *
+     * @param index index of the first element to be returned by <code>next</code>
+     * @return a list iterator over the elements in this list
+     */
+    public ListIterator<Integer> listIterator(int index) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        return new MyArrayListListIterator(index);
+    }
+
+    private class MyArrayListListIterator implements ListIterator<Integer> {
+        // index of the element returned by the next call to next()
+        private int cursor;
+        // index of the element last returned, or -1 after an edit
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        MyArrayListListIterator(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Integer next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            return array[slot(cursor++)];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public Integer previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --cursor;
+            return array[slot(cursor)];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            // bring the gap up behind the element, then widen it over the element
+            moveGapTo(lastReturned + 1);
+            int removed = physical(lastReturned);
+            Integer temp = array[removed];
+            array[removed] = null;
+            gapStart = lastReturned;
+            gapLength++;
+            size--;
+            modCount++;
+            indexRemoved(temp, lastReturned < size);
+            if (ListMetrics.ENABLED) {
+                ListMetrics.ARRAY_LIST.countRemove();
+            }
+            if (lastReturned < cursor) {
+                cursor--;
+            }
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(Integer item) {
+            if (item == null) {
+                throw new NullPointerException();
+            }
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            MyArrayList.this.set(lastReturned, item);
+        }
+
+        @Override
+        public void add(Integer item) {
+            if (item == null) {
+                throw new NullPointerException();
+            }
+            checkForComodification();
+            if (gapLength == 0) {
+                openGap(cursor);
+            }
+            else {
+                moveGapTo(cursor);
+            }
+            array[physical(cursor)] = item;
+            gapStart++;
+            gapLength--;
+            size++;
+            modCount++;
+            indexAdded(cursor, item, cursor < size - 1);
+            if (ListMetrics.ENABLED) {
+                ListMetrics.ARRAY_LIST.countAdd();
+            }
+            cursor++;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Stream Stuff
+     */
+
+    /**
+     * Returns a sequential <code>Stream</code> over the elements in this list.
+     *
+     * @return a sequential stream over the elements in this list
+     */
+    public Stream<Integer> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel <code>Stream</code> over the elements in this list.
+     *
+     * @return a parallel stream over the elements in this list
+     */
+    public Stream<Integer> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns a sequential <code>IntStream</code> over the elements in this
+     * list, which does not box. Call <code>parallel()</code> on it to split
+     * the work across cores.
+     *
+     * @return a sequential int stream over the elements in this list
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a spliterator over the elements in this list. It is
+     * <code>SIZED</code> and <code>SUBSIZED</code> and splits its index range
+     * in half, so parallel streams divide the work evenly.
+     *
+     * @return a spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        closeGap();
+        return new MyArrayListSpliterator(0, size);
+    }
+
+    private class MyArrayListSpliterator implements Spliterator.OfInt {
+        private int index;
+        private final int fence;
+
+        /**
+         * Creates a spliterator over list indices index up to (but not
+         * including) fence.
+         */
+        MyArrayListSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator.OfInt prefix = new MyArrayListSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(array[physical(index++)]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            for (; index < fence; index++) {
+                action.accept(array[physical(index)]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
         }
     }
 }
\ No newline at end of file
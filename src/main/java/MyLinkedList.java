@@ -1,5 +1,15 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The MyLinkedList class is the implementation of a singly-linked list of
@@ -23,6 +33,23 @@ import java.util.NoSuchElementException;
  * methods, but please do not modify public interface. Again, remember to
  * avoid the <code>IndexOutOfBoundsException</code> and throw the
  * <code>NullPointerException</code> where noted.
+ * <p>
+ * The list remembers the last node it looked up by index (the "finger")
+ * and that node's index. A lookup at or after the finger starts walking
+ * from there instead of from <code>first</code>, so sequential and nearby
+ * positional access costs O(1) amortized per call. Every mutation either
+ * adjusts the finger's index or forgets the finger.
+ * <p>
+ * With <code>-Dlists.metrics=true</code>, the list reports its operations
+ * and the nodes its lookups walk over to <code>ListMetrics</code>.
+ * <p>
+ * A list built with <code>MyLinkedList(int poolCapacity)</code> keeps up to
+ * that many removed nodes in a free list and reuses them for later adds, so
+ * a list that keeps adding and removing stops allocating nodes once it
+ * reaches a steady state. A node goes back to the pool only once it is
+ * unlinked. Every iterator and spliterator of the list is fail-fast, so one
+ * that could be holding a pooled node throws a
+ * <code>ConcurrentModificationException</code> instead of reading it.
  */
 public class MyLinkedList implements Iterable<Integer>
 {
@@ -46,13 +73,37 @@ public class MyLinkedList implements Iterable<Integer>
 
     private Node first;
     private int size;
+    // the last node looked up by index, or null if there is none
+    private Node cursor;
+    private int cursorIndex;
+    // number of structural changes, checked by the list iterators
+    private int modCount;
+    // removed nodes kept for reuse, linked through next
+    private final int poolCapacity;
+    private Node pool;
+    private int poolSize;
 
     /**
      * Constructs an empty list.
      */
     public MyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty list that keeps up to <code>poolCapacity</code>
+     * removed nodes for reuse. A capacity of 0 turns pooling off.
+     * @param poolCapacity the most removed nodes to keep
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public MyLinkedList(int poolCapacity) {
+        if(poolCapacity < 0){
+            throw new IllegalArgumentException("negative pool capacity");
+        }
         first = null;
         size = 0;
+        cursor = null;
+        this.poolCapacity = poolCapacity;
     }
 
     /**
@@ -64,10 +115,17 @@ public class MyLinkedList implements Iterable<Integer>
         if(item == null){
             throw new NullPointerException();
         }
-        Node newNode = new Node(item);
+        Node newNode = newNode(item);
         newNode.next = first;
         first = newNode;
         size++;
+        modCount++;
+        if(cursor != null){
+            cursorIndex++;
+        }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countAdd();
+        }
     }
 
     /**
@@ -91,14 +149,15 @@ public class MyLinkedList implements Iterable<Integer>
             return;
         }
 
-        Node current = first;
-        for(int i = 0; i < index - 1; i++){
-            current = current.next;
-        }
-        Node newNode = new Node(item);
+        Node current = node(index - 1);
+        Node newNode = newNode(item);
         newNode.next = current.next;
         current.next = newNode;
         size++;
+        modCount++;
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countAdd();
+        }
     }
 
     /**
@@ -112,18 +171,104 @@ public class MyLinkedList implements Iterable<Integer>
             throw new IndexOutOfBoundsException();
         }
         size--;
+        modCount++;
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countRemove();
+        }
         if(index == 0){
-            int temp = first.value;
-            first = first.next;
+            Node removed = first;
+            int temp = removed.value;
+            first = removed.next;
+            if(cursorIndex == 0){
+                // the finger was on the removed node
+                cursor = null;
+            }
+            else if(cursor != null){
+                cursorIndex--;
+            }
+            recycle(removed);
             return temp;
         }
+        Node current = node(index - 1);
+        Node removed = current.next;
+        int temp = removed.value;
+        current.next = removed.next;
+        recycle(removed);
+        return temp;
+    }
+
+    /**
+     * Removes every element of this list that satisfies the given predicate.
+     * Matching nodes are unlinked during a single traversal, so removing k of
+     * n elements costs O(n) rather than a walk from <code>first</code> for
+     * each one.
+     * @param filter predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     * @throws NullPointerException if filter is null
+     */
+    public boolean removeIf(IntPredicate filter) {
+        if(filter == null){
+            throw new NullPointerException();
+        }
+        int oldSize = size;
+        Node previous = null;
         Node current = first;
-        for(int i = 0; i < index - 1; i++){
-            current = current.next;
+        while(current != null){
+            Node next = current.next;
+            if(filter.test(current.value)){
+                if(previous == null){
+                    first = next;
+                }
+                else{
+                    previous.next = next;
+                }
+                size--;
+                cursor = null;
+                recycle(current);
+            }
+            else{
+                previous = current;
+            }
+            current = next;
         }
-        int temp = current.next.value;
-        current.next = current.next.next;
-        return temp;
+        if(size != oldSize){
+            modCount++;
+            if (ListMetrics.ENABLED) {
+                ListMetrics.LINKED_LIST.countRemove(oldSize - size);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes every element of this list that matches any of the specified
+     * ints, in one pass (see <code>removeIf</code>).
+     * @param items ints to be removed from this list
+     * @return true if any elements were removed
+     * @throws NullPointerException if items is null
+     */
+    public boolean removeAll(int... items) {
+        if(items == null){
+            throw new NullPointerException();
+        }
+        IntIntHashMap remove = IntIntHashMap.keysOf(items);
+        return removeIf(remove::containsKey);
+    }
+
+    /**
+     * Removes every element of this list that does not match any of the
+     * specified ints, in one pass (see <code>removeIf</code>).
+     * @param items ints to be kept in this list
+     * @return true if any elements were removed
+     * @throws NullPointerException if items is null
+     */
+    public boolean retainAll(int... items) {
+        if(items == null){
+            throw new NullPointerException();
+        }
+        IntIntHashMap keep = IntIntHashMap.keysOf(items);
+        return removeIf(value -> !keep.containsKey(value));
     }
 
     /**
@@ -135,11 +280,10 @@ public class MyLinkedList implements Iterable<Integer>
         if(index < 0 || index >= size){
             throw new IndexOutOfBoundsException();
         }
-        Node current = first;
-        for(int i = 0; i < index; i++){
-            current = current.next;
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countGet();
         }
-        return current.value;
+        return node(index).value;
     }
 
     /**
@@ -156,11 +300,10 @@ public class MyLinkedList implements Iterable<Integer>
         if(index < 0 || index >= size){
             throw new IndexOutOfBoundsException();
         }
-        Node current = first;
-        for(int i = 0; i < index; i++){
-            current = current.next;
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countSet();
         }
-        current.value = item;
+        node(index).value = item;
     }
 
     /**
@@ -186,10 +329,18 @@ public class MyLinkedList implements Iterable<Integer>
         Node current = first;
         for(int i = 0; i < size; i++){
             if(current.value.equals(item)){
+                if (ListMetrics.ENABLED) {
+                    ListMetrics.LINKED_LIST.countSearch();
+                    ListMetrics.LINKED_LIST.countTraversed(i);
+                }
                 return i;
             }
             current = current.next;
         }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countSearch();
+            ListMetrics.LINKED_LIST.countTraversed(size);
+        }
         return -1;
     }
 
@@ -211,9 +362,19 @@ public class MyLinkedList implements Iterable<Integer>
      * call returns.
      */
     public void clear() {
-        // garbage collection will handle this automatically
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countRemove(size);
+        }
+        // fill the pool from the front; garbage collection handles the rest
+        while(first != null && poolSize < poolCapacity){
+            Node next = first.next;
+            recycle(first);
+            first = next;
+        }
         first = null;
         size = 0;
+        modCount++;
+        cursor = null;
     }
 
     /**
@@ -224,6 +385,79 @@ public class MyLinkedList implements Iterable<Integer>
         return size == 0;
     }
 
+    /**
+     * Throws if the list has been structurally changed since an iterator or
+     * spliterator saw the given modification count, since the nodes it holds
+     * may have been unlinked or reused from the pool.
+     * @param expectedModCount the count the caller last saw
+     */
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns the number of removed nodes currently held for reuse.
+     * @return the number of pooled nodes
+     */
+    public int pooledNodes() {
+        return poolSize;
+    }
+
+    /**
+     * Returns a node holding the item, taken from the pool if it has one.
+     */
+    private Node newNode(Integer item) {
+        Node node = pool;
+        if (node == null) {
+            return new Node(item);
+        }
+        pool = node.next;
+        poolSize--;
+        node.value = item;
+        node.next = null;
+        return node;
+    }
+
+    /**
+     * Puts an unlinked node in the pool, unless the pool is full. Pooled
+     * nodes hold no value.
+     */
+    private void recycle(Node node) {
+        if (poolSize < poolCapacity) {
+            node.value = null;
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        }
+    }
+
+    /**
+     * Returns the node at the specified index, walking from the finger when it
+     * is at or before that index and from <code>first</code> otherwise. The
+     * node found becomes the new finger.
+     * @param index a valid list index
+     * @return the node at that index
+     */
+    private Node node(int index) {
+        Node current = first;
+        int i = 0;
+        if(cursor != null && cursorIndex <= index){
+            current = cursor;
+            i = cursorIndex;
+        }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.LINKED_LIST.countTraversed(index - i);
+        }
+        for(; i < index; i++){
+            current = current.next;
+        }
+        cursor = current;
+        cursorIndex = index;
+        return current;
+    }
+
     /**
      * Iterator Stuff
      */
@@ -238,8 +472,42 @@ public class MyLinkedList implements Iterable<Integer>
         return new MyLinkedListIterator();
     }
 
-    private class MyLinkedListIterator implements Iterator<Integer> {
+    /**
+     * Returns an iterator over the elements in this list in proper sequence
+     * whose <code>nextInt</code> method returns little-i <code>int</code>
+     * values, so loops over it do not box.
+     *
+     * @return a primitive iterator over the elements in this list
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return new MyLinkedListIterator();
+    }
+
+    /**
+     * Performs the given action on each element of this list, in order. This
+     * runs as one tight loop inside the list, with no iterator object and no
+     * boxing, which makes it the fastest way to visit every element.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     * @throws ConcurrentModificationException if the action structurally
+     *         modifies this list
+     */
+    public void forEachInt(IntConsumer action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        int expectedModCount = modCount;
+        for(Node current = first; current != null; current = current.next){
+            action.accept(current.value);
+            // a removed node may already be back in the pool
+            checkForComodification(expectedModCount);
+        }
+    }
+
+    private class MyLinkedListIterator implements PrimitiveIterator.OfInt {
         private Node current = first;
+        private int expectedModCount = modCount;
 
         /**
          * Returns {@code true} if the iteration has more elements.
@@ -258,9 +526,12 @@ public class MyLinkedList implements Iterable<Integer>
          *
          * @return the next element in the iteration
          * @throws NoSuchElementException if the iteration has no more elements
+         * @throws ConcurrentModificationException if the list was structurally
+         * changed since the iterator was created
          */
         @Override
         public Integer next() {
+            checkForComodification(expectedModCount);
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
@@ -268,5 +539,307 @@ public class MyLinkedList implements Iterable<Integer>
             current = current.next;
             return value;
         }
+
+        /**
+         * Returns the next element in the iteration without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         * @throws ConcurrentModificationException if the list was structurally
+         * changed since the iterator was created
+         */
+        @Override
+        public int nextInt() {
+            checkForComodification(expectedModCount);
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int value = current.value;
+            current = current.next;
+            return value;
+        }
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the
+     * beginning. It keeps hold of the nodes around its position, so
+     * <code>remove</code>, <code>set</code>, and <code>add</code> act at the
+     * cursor in O(1), and filtering or splicing the list takes one pass.
+     * Because the list is singly-linked, <code>previous</code> has to find
+     * the node before the cursor by walking, and costs O(n). The iterator is
+     * fail-fast: if the list is structurally changed other than through the
+     * iterator itself, it throws a <code>ConcurrentModificationException</code>.
+     *
+     * @return a list iterator over the elements in this list
+     */
+    public ListIterator<Integer> listIterator() {
+        return new MyLinkedListListIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the
+     * specified position.
+     *
+     * @param index index of the first element to be returned by <code>next</code>
+     * @return a list iterator over the elements in this list
+     */
+    public ListIterator<Integer> listIterator(int index) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        return new MyLinkedListListIterator(index);
+    }
+
+    private class MyLinkedListListIterator implements ListIterator<Integer> {
+        // the nodes on either side of the cursor; previous is null at the start
+        private Node previous;
+        private Node next;
+        private int nextIndex;
+        // the node last returned and the node before it, or null after an edit
+        private Node lastReturned;
+        private Node beforeLastReturned;
+        private int expectedModCount = modCount;
+
+        MyLinkedListListIterator(int index) {
+            if (index > 0) {
+                previous = node(index - 1);
+                next = previous.next;
+            }
+            else {
+                next = first;
+            }
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public Integer next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            beforeLastReturned = previous;
+            lastReturned = next;
+            previous = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public Integer previous() {
+            checkForComodification();
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            next = previous;
+            nextIndex--;
+            previous = nextIndex == 0 ? null : node(nextIndex - 1);
+            lastReturned = next;
+            beforeLastReturned = previous;
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            Node removed = lastReturned;
+            if (beforeLastReturned == null) {
+                first = lastReturned.next;
+            }
+            else {
+                beforeLastReturned.next = lastReturned.next;
+            }
+            if (lastReturned == previous) {
+                // removed the element before the cursor
+                previous = beforeLastReturned;
+                nextIndex--;
+            }
+            else {
+                next = lastReturned.next;
+            }
+            lastReturned = null;
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+            cursor = null;
+            recycle(removed);
+            if (ListMetrics.ENABLED) {
+                ListMetrics.LINKED_LIST.countRemove();
+            }
+        }
+
+        @Override
+        public void set(Integer item) {
+            if (item == null) {
+                throw new NullPointerException();
+            }
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastReturned.value = item;
+        }
+
+        @Override
+        public void add(Integer item) {
+            if (item == null) {
+                throw new NullPointerException();
+            }
+            checkForComodification();
+            Node newNode = newNode(item);
+            newNode.next = next;
+            if (previous == null) {
+                first = newNode;
+            }
+            else {
+                previous.next = newNode;
+            }
+            previous = newNode;
+            nextIndex++;
+            lastReturned = null;
+            size++;
+            modCount++;
+            expectedModCount = modCount;
+            cursor = null;
+            if (ListMetrics.ENABLED) {
+                ListMetrics.LINKED_LIST.countAdd();
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Stream Stuff
+     */
+
+    /**
+     * Returns a sequential <code>Stream</code> over the elements in this list.
+     *
+     * @return a sequential stream over the elements in this list
+     */
+    public Stream<Integer> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel <code>Stream</code> over the elements in this list.
+     *
+     * @return a parallel stream over the elements in this list
+     */
+    public Stream<Integer> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns a sequential <code>IntStream</code> over the elements in this
+     * list, which does not box. Call <code>parallel()</code> on it to split
+     * the work across cores.
+     *
+     * @return a sequential int stream over the elements in this list
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a spliterator over the elements in this list. It is
+     * <code>SIZED</code> and <code>SUBSIZED</code>. A node chain cannot be
+     * cut in the middle without walking to it, so each split copies the next
+     * batch of values into an array (the batches grow by 1024 each time) and
+     * hands that off, keeping the rest of the chain.
+     *
+     * @return a spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new MyLinkedListSpliterator();
+    }
+
+    private class MyLinkedListSpliterator implements Spliterator.OfInt {
+        private static final int BATCH_UNIT = 1024;
+
+        private Node current = first;
+        private int remaining = size;
+        private int batch = 0;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            checkForComodification(expectedModCount);
+            if (remaining <= 1) {
+                return null;
+            }
+            int n = Math.min(batch + BATCH_UNIT, remaining);
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = current.value;
+                current = current.next;
+            }
+            batch = n;
+            remaining -= n;
+            return Spliterators.spliterator(values, 0, n, ORDERED | NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            checkForComodification(expectedModCount);
+            if (remaining == 0) {
+                return false;
+            }
+            int value = current.value;
+            current = current.next;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            for (; remaining > 0; remaining--) {
+                // the action may change the list, so check before each step
+                checkForComodification(expectedModCount);
+                int value = current.value;
+                current = current.next;
+                action.accept(value);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,425 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * The OffHeapIntList class is a list of ints stored outside the Java heap,
+ * with the methods of <code>MyArrayList</code> but <code>long</code> indices.
+ * <p>
+ * The values live in direct <code>ByteBuffer</code>s in native byte order.
+ * The garbage collector sees only a handful of buffer objects, however many
+ * values there are, so huge lists no longer lengthen GC pauses, and the
+ * buffers can be handed to channels or native code as they are (see
+ * <code>asByteBuffers</code>).
+ * <p>
+ * A single buffer holds at most 2^31 bytes, so the list is split into chunks
+ * of <code>CHUNK_SIZE</code> values, and element <code>i</code> lives at
+ * offset <code>i % CHUNK_SIZE</code> of chunk <code>i / CHUNK_SIZE</code>.
+ * This lets the list grow past 2^31 elements. While the list fits in one
+ * chunk, that chunk grows by reallocation, doubling each time; after that,
+ * more full-size chunks are added, so nothing already stored is copied again.
+ * Inserting or removing in the middle moves the rest of each chunk with one
+ * bulk copy and carries a single value across each chunk boundary.
+ * <p>
+ * Direct buffers count against the JVM's direct memory limit,
+ * <code>-XX:MaxDirectMemorySize</code>, which defaults to the maximum heap
+ * size. A list bigger than that needs the JVM started with a higher limit;
+ * otherwise growing it throws an <code>OutOfMemoryError</code>.
+ * <p>
+ * The list must be closed when it is no longer needed. Closing drops the
+ * buffers, so their memory is freed when the collector next cleans them up,
+ * and any later use throws an <code>IllegalStateException</code>.
+ */
+public class OffHeapIntList implements Iterable<Integer>, AutoCloseable
+{
+    /**
+     * The number of values in each full chunk (2^24 values, or 64 MiB).
+     */
+    public static final int CHUNK_SIZE = 1 << 24;
+    private static final int CHUNK_SHIFT = 24;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private ByteBuffer[] chunks;
+    private long capacity;
+    private long size;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public OffHeapIntList() {
+        this(10);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public OffHeapIntList(long initialCapacity) {
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException();
+        }
+        chunks = new ByteBuffer[0];
+        capacity = 0;
+        size = 0;
+        ensureCapacity(Math.max(initialCapacity, 1));
+    }
+
+    /**
+     * Appends the specified int to the <b>end</b> of the list.
+     * @param item int to be appended to this list
+     */
+    public void addLast(int item) {
+        ensureOpen();
+        ensureCapacity(size + 1);
+        put(size, item);
+        size++;
+    }
+
+    /**
+     * Inserts the specified int at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices).
+     * @param index index at which the specified element is to be inserted
+     * @param item int to be inserted
+     */
+    public void add(long index, int item) {
+        ensureOpen();
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(size + 1);
+        shiftRight(index);
+        put(index, item);
+        size++;
+    }
+
+    /**
+     * Removes the int at the specified position in this list. Shifts any
+     * subsequent ints to the left (subtracts one from their indices).
+     * @param index the index of the element to remove
+     * @return the element that was removed from the list
+     */
+    public int remove(long index) {
+        ensureOpen();
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        int temp = get0(index);
+        shiftLeft(index);
+        size--;
+        return temp;
+    }
+
+    /**
+     * Removes and returns the last int in this list.
+     * @return the int that was at the end of the list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public int removeLast() {
+        ensureOpen();
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        size--;
+        return get0(size);
+    }
+
+    /**
+     * Returns the int at the specified position in this list.
+     * @param index index of the element to return
+     * @return the int at the specified position in this list
+     */
+    public int get(long index) {
+        ensureOpen();
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return get0(index);
+    }
+
+    /**
+     * Replaces the int at the specified position in this list with the
+     * specified int.
+     * @param index index of the int to replace
+     * @param item int to be stored at the specified position
+     */
+    public void set(long index, int item) {
+        ensureOpen();
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        put(index, item);
+    }
+
+    /**
+     * Returns the number of ints in this list.
+     * @return the number of ints in this list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int.
+     * @param item int to search for
+     * @return the index of the first occurrence of the specified int
+     * in this list, or -1 if this list does not contain the int
+     */
+    public long indexOf(int item) {
+        ensureOpen();
+        for(int c = 0; c < chunks.length; c++){
+            ByteBuffer chunk = chunks[c];
+            long base = (long) c << CHUNK_SHIFT;
+            int limit = (int) Math.min(length(chunk), size - base);
+            for(int i = 0; i < limit; i++){
+                if(chunk.getInt(i << 2) == item){
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified int.
+     * @param item int whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains(int item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Removes all the elements from this list.
+     * @post the capacity of the list should not change
+     */
+    public void clear() {
+        ensureOpen();
+        size = 0;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements the list can hold before it has to grow.
+     * @return the capacity of this list
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Performs the given action on each element of this list, in order.
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        ensureOpen();
+        for(int c = 0; c < chunks.length; c++){
+            ByteBuffer chunk = chunks[c];
+            int limit = (int) Math.min(length(chunk), size - ((long) c << CHUNK_SHIFT));
+            for(int i = 0; i < limit; i++){
+                action.accept(chunk.getInt(i << 2));
+            }
+        }
+    }
+
+    /**
+     * Returns read-only views of the memory holding the list, one per chunk
+     * that holds at least one element, each limited to the bytes in use. The
+     * values are in native byte order. The views are only valid until the
+     * list is changed or closed.
+     * @return the list's memory as byte buffers
+     */
+    public ByteBuffer[] asByteBuffers() {
+        ensureOpen();
+        int used = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        ByteBuffer[] views = new ByteBuffer[used];
+        for(int c = 0; c < used; c++){
+            int values = (int) Math.min(CHUNK_SIZE, size - ((long) c << CHUNK_SHIFT));
+            ByteBuffer view = chunks[c].asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+            view.clear().limit(values * Integer.BYTES);
+            views[c] = view;
+        }
+        return views;
+    }
+
+    /**
+     * Releases the memory of this list. Closing an already closed list does
+     * nothing.
+     */
+    @Override
+    public void close() {
+        // the direct buffers free their memory once they are unreachable
+        chunks = null;
+        capacity = 0;
+        size = 0;
+    }
+
+    /**
+     * Increases the capacity of the list, if necessary, so that it can hold at
+     * least the specified number of elements.
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(long minCapacity) {
+        ensureOpen();
+        while(capacity < minCapacity){
+            int last = chunks.length - 1;
+            if(last >= 0 && length(chunks[last]) < CHUNK_SIZE){
+                // the single chunk is not full size yet: reallocate it
+                int oldLength = length(chunks[last]);
+                int newLength = (int) Math.min(Math.max(minCapacity, (long) oldLength * 2), CHUNK_SIZE);
+                ByteBuffer bigger = allocate(newLength);
+                bigger.put(chunks[last].duplicate().clear()).clear();
+                chunks[last] = bigger;
+                capacity += newLength - oldLength;
+            }
+            else{
+                int newLength = chunks.length == 0
+                        ? (int) Math.min(minCapacity, CHUNK_SIZE)
+                        : CHUNK_SIZE;
+                ByteBuffer[] newChunks = new ByteBuffer[chunks.length + 1];
+                System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+                newChunks[chunks.length] = allocate(newLength);
+                chunks = newChunks;
+                capacity += newLength;
+            }
+        }
+    }
+
+    /**
+     * Moves the elements from index to the end one place to the right, from
+     * the last chunk backwards. There must be room for one more element.
+     */
+    private void shiftRight(long index) {
+        int first = (int) (index >>> CHUNK_SHIFT);
+        for(int c = (int) (size >>> CHUNK_SHIFT); c >= first; c--){
+            ByteBuffer chunk = chunks[c];
+            long base = (long) c << CHUNK_SHIFT;
+            int from = c == first ? (int) (index - base) : 0;
+            int end = (int) Math.min(length(chunk), size - base);
+            int count = end - from;
+            if(count <= 0){
+                continue;
+            }
+            if(end == length(chunk)){
+                // the last value of a full chunk moves to the front of the next
+                chunks[c + 1].putInt(0, chunk.getInt((end - 1) << 2));
+                count--;
+            }
+            move(chunk, from, from + 1, count);
+        }
+    }
+
+    /**
+     * Moves the elements after index one place to the left, overwriting the
+     * element at index, from the first chunk forwards.
+     */
+    private void shiftLeft(long index) {
+        int last = (int) ((size - 1) >>> CHUNK_SHIFT);
+        for(int c = (int) (index >>> CHUNK_SHIFT); c <= last; c++){
+            ByteBuffer chunk = chunks[c];
+            long base = (long) c << CHUNK_SHIFT;
+            int to = c == (int) (index >>> CHUNK_SHIFT) ? (int) (index - base) : 0;
+            int end = (int) Math.min(length(chunk), size - base);
+            move(chunk, to + 1, to, end - to - 1);
+            if(c < last){
+                // the first value of the next chunk moves to the end of this one
+                chunk.putInt((end - 1) << 2, chunks[c + 1].getInt(0));
+            }
+        }
+    }
+
+    /**
+     * Copies count values within a chunk with one bulk copy; the ranges may
+     * overlap.
+     */
+    private static void move(ByteBuffer chunk, int from, int to, int count) {
+        if(count > 0){
+            chunk.put(to << 2, chunk.duplicate(), from << 2, count << 2);
+        }
+    }
+
+    private int get0(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].getInt((int) (index & CHUNK_MASK) << 2);
+    }
+
+    private void put(long index, int item) {
+        chunks[(int) (index >>> CHUNK_SHIFT)].putInt((int) (index & CHUNK_MASK) << 2, item);
+    }
+
+    /**
+     * Returns the number of ints a chunk can hold.
+     */
+    private static int length(ByteBuffer chunk) {
+        return chunk.capacity() >>> 2;
+    }
+
+    private static ByteBuffer allocate(int values) {
+        return ByteBuffer.allocateDirect(values * Integer.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private void ensureOpen() {
+        if(chunks == null){
+            throw new IllegalStateException("The list has been closed");
+        }
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        ensureOpen();
+        return new OffHeapIntListIterator();
+    }
+
+    private class OffHeapIntListIterator implements Iterator<Integer> {
+        private long currentIndex = 0;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ensureOpen();
+            return get0(currentIndex++);
+        }
+    }
+}
@@ -0,0 +1,462 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * The PersistentIntVector class is an immutable list of ints whose "changing"
+ * methods return a new version of the list and leave the old one untouched.
+ * <p>
+ * The elements are stored in a trie with 32 children per node, like
+ * Clojure's vector. An index is split into groups of five bits, one per
+ * level, that pick the child to follow, and the leaves are
+ * <code>int[32]</code> arrays. <code>set</code> copies only the path from the
+ * root to one leaf, about log32(n) small arrays, so a new version shares
+ * all other nodes with the old one, and even a list of a billion elements is
+ * only six levels deep. The last, partly filled leaf is kept outside the trie
+ * as the <i>tail</i>, so <code>addLast</code> and <code>removeLast</code>
+ * usually copy just the tail.
+ * <p>
+ * To build a large vector, use a <code>Builder</code>. It fills nodes in
+ * place instead of copying them, and hands them over to a vector when
+ * <code>build</code> is called.
+ */
+public final class PersistentIntVector implements Iterable<Integer>
+{
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentIntVector EMPTY =
+            new PersistentIntVector(0, BITS, new Object[WIDTH], new int[0]);
+
+    private final int size;
+    // bit position of the root level; leaves are at level 0
+    private final int shift;
+    // internal nodes are Object[] of children, leaves are int[]
+    private final Object[] root;
+    private final int[] tail;
+
+    private PersistentIntVector(int size, int shift, Object[] root, int[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     * @return a vector with no elements
+     */
+    public static PersistentIntVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the specified values, in order.
+     * @param values the elements of the vector
+     * @return a vector of the values
+     */
+    public static PersistentIntVector of(int... values) {
+        Builder builder = builder();
+        for(int value : values){
+            builder.addLast(value);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a new, empty builder.
+     * @return a builder for a vector
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of ints in this vector.
+     * @return the number of ints in this vector
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns <code>true</code> if this vector has no elements.
+     * @return true if this vector is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the int at the specified position in this vector.
+     * @param index index of the element to return
+     * @return the int at the specified position in this vector
+     */
+    public int get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        return leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a vector that is this vector with the int at the specified
+     * position replaced. This vector does not change.
+     * @param index index of the int to replace
+     * @param item int to be stored at the specified position
+     * @return the new version
+     */
+    public PersistentIntVector set(int index, int item) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        if(index >= tailOffset()){
+            int[] newTail = tail.clone();
+            newTail[index & MASK] = item;
+            return new PersistentIntVector(size, shift, root, newTail);
+        }
+        return new PersistentIntVector(size, shift, (Object[]) assoc(shift, root, index, item), tail);
+    }
+
+    /**
+     * Returns a vector that is this vector with the specified int appended.
+     * This vector does not change.
+     * @param item int to be appended
+     * @return the new version
+     */
+    public PersistentIntVector addLast(int item) {
+        if(size - tailOffset() < WIDTH){
+            int[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = item;
+            return new PersistentIntVector(size + 1, shift, root, newTail);
+        }
+        // the tail is full: move it into the trie and start a new one
+        Object[] newRoot;
+        int newShift = shift;
+        if((size >>> BITS) > (1 << shift)){
+            // the trie is full too: add a level on top
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        }
+        else{
+            newRoot = pushTail(size, shift, root, tail);
+        }
+        return new PersistentIntVector(size + 1, newShift, newRoot, new int[] {item});
+    }
+
+    /**
+     * Returns a vector that is this vector without its last element. This
+     * vector does not change.
+     * @return the new version
+     * @throws NoSuchElementException if this vector is empty
+     */
+    public PersistentIntVector removeLast() {
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        if(size == 1){
+            return EMPTY;
+        }
+        if(size - tailOffset() > 1){
+            return new PersistentIntVector(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        // the tail empties: the last leaf of the trie becomes the tail
+        int[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if(newRoot == null){
+            newRoot = new Object[WIDTH];
+        }
+        if(shift > BITS && newRoot[1] == null){
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentIntVector(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified int
+     * in this vector, or -1 if this vector does not contain the int.
+     * @param item int to search for
+     * @return the index of the first occurrence of the specified int
+     * in this vector, or -1 if this vector does not contain the int
+     */
+    public int indexOf(int item) {
+        for(int base = 0; base < size; base += WIDTH){
+            int[] leaf = leafFor(base);
+            int limit = Math.min(WIDTH, size - base);
+            for(int i = 0; i < limit; i++){
+                if(leaf[i] == item){
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this vector contains the specified int.
+     * @param item int whose presence in this vector is to be tested
+     * @return true if this vector contains the specified element
+     */
+    public boolean contains(int item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Performs the given action on each element of this vector, in order.
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        for(int base = 0; base < size; base += WIDTH){
+            int[] leaf = leafFor(base);
+            int limit = Math.min(WIDTH, size - base);
+            for(int i = 0; i < limit; i++){
+                action.accept(leaf[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first element held in the tail.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the leaf (or tail) holding the element at the specified index.
+     */
+    private int[] leafFor(int index) {
+        if(index >= tailOffset()){
+            return tail;
+        }
+        Object node = root;
+        for(int level = shift; level > 0; level -= BITS){
+            node = ((Object[]) node)[(index >>> level) & MASK];
+        }
+        return (int[]) node;
+    }
+
+    /**
+     * Returns a copy of the node at the specified level with the element at
+     * the specified index replaced, copying the path down to its leaf.
+     */
+    private static Object assoc(int level, Object node, int index, int item) {
+        if(level == 0){
+            int[] leaf = ((int[]) node).clone();
+            leaf[index & MASK] = item;
+            return leaf;
+        }
+        Object[] copy = ((Object[]) node).clone();
+        int child = (index >>> level) & MASK;
+        copy[child] = assoc(level - BITS, copy[child], index, item);
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the node at the specified level with the full tail of
+     * a vector of the given size added as its rightmost leaf.
+     */
+    private static Object[] pushTail(int size, int level, Object[] parent, int[] tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        if(level == BITS){
+            copy[child] = tailNode;
+        }
+        else if(parent[child] != null){
+            copy[child] = pushTail(size, level - BITS, (Object[]) parent[child], tailNode);
+        }
+        else{
+            copy[child] = newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a chain of new nodes from the specified level down to the leaf.
+     */
+    private static Object newPath(int level, int[] leaf) {
+        if(level == 0){
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * Returns a copy of the node at the specified level without its rightmost
+     * leaf, or null if that leaves the node empty.
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int child = ((size - 2) >>> level) & MASK;
+        if(level > BITS){
+            Object[] newChild = popTail(level - BITS, (Object[]) node[child]);
+            if(newChild == null && child == 0){
+                return null;
+            }
+            Object[] copy = node.clone();
+            copy[child] = newChild;
+            return copy;
+        }
+        if(child == 0){
+            return null;
+        }
+        Object[] copy = node.clone();
+        copy[child] = null;
+        return copy;
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements in this vector in proper sequence.
+     *
+     * @return an iterator over the elements in this vector in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new PersistentIntVectorIterator();
+    }
+
+    /**
+     * Returns an iterator over the elements in this vector in proper sequence
+     * whose <code>nextInt</code> method does not box.
+     *
+     * @return a primitive iterator over the elements in this vector
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return new PersistentIntVectorIterator();
+    }
+
+    private class PersistentIntVectorIterator implements PrimitiveIterator.OfInt {
+        private int currentIndex = 0;
+        private int[] leaf;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration without boxing it. The
+         * trie is only walked once per leaf.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if ((currentIndex & MASK) == 0) {
+                leaf = leafFor(currentIndex);
+            }
+            return leaf[currentIndex++ & MASK];
+        }
+    }
+
+    /**
+     * A mutable builder for a vector. It fills the trie's nodes in place, so
+     * adding n elements costs O(n) with no path copying. After
+     * <code>build</code> the builder can no longer be used.
+     */
+    public static final class Builder
+    {
+        private Object[] root = new Object[WIDTH];
+        private int shift = BITS;
+        private int size;
+        private int[] tail = new int[WIDTH];
+        private int tailCount;
+
+        private Builder() {
+        }
+
+        /**
+         * Appends the specified int to the end of the vector being built.
+         * @param item int to be appended
+         * @return this builder
+         */
+        public Builder addLast(int item) {
+            ensureOpen();
+            if(tailCount == WIDTH){
+                // the nodes all belong to this builder, so change them in place
+                if((size >>> BITS) > (1 << shift)){
+                    Object[] newRoot = new Object[WIDTH];
+                    newRoot[0] = root;
+                    newRoot[1] = newPath(shift, tail);
+                    root = newRoot;
+                    shift += BITS;
+                }
+                else{
+                    Object[] node = root;
+                    int level = shift;
+                    for(; level > BITS; level -= BITS){
+                        int child = ((size - 1) >>> level) & MASK;
+                        if(node[child] == null){
+                            node[child] = newPath(level - BITS, tail);
+                            break;
+                        }
+                        node = (Object[]) node[child];
+                    }
+                    if(level == BITS){
+                        node[((size - 1) >>> BITS) & MASK] = tail;
+                    }
+                }
+                tail = new int[WIDTH];
+                tailCount = 0;
+            }
+            tail[tailCount++] = item;
+            size++;
+            return this;
+        }
+
+        /**
+         * Returns the number of ints added so far.
+         * @return the number of ints in the builder
+         */
+        public int size() {
+            ensureOpen();
+            return size;
+        }
+
+        /**
+         * Returns a vector holding the ints added to this builder. The builder
+         * can no longer be used.
+         * @return the built vector
+         */
+        public PersistentIntVector build() {
+            ensureOpen();
+            PersistentIntVector vector = size == 0
+                    ? EMPTY
+                    : new PersistentIntVector(size, shift, root, Arrays.copyOf(tail, tailCount));
+            root = null;
+            return vector;
+        }
+
+        private void ensureOpen() {
+            if(root == null){
+                throw new IllegalStateException("The builder has already been built");
+            }
+        }
+    }
+}
@@ -0,0 +1,487 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * The SnapshotArrayList class is a copy-on-write version of
+ * <code>MyArrayList</code> for data that many threads read and that rarely
+ * changes, such as routing tables.
+ * <p>
+ * The elements are kept in an array that is never modified once it has been
+ * published, together with its size, as a <code>Snapshot</code> in a volatile
+ * field. Reading takes one volatile read and no lock: <code>snapshot</code>
+ * returns the current immutable <code>Snapshot</code> of the list, and a
+ * reader that needs several consistent reads (or an iteration) should take
+ * one and work on it. The list's own read methods each take a fresh
+ * snapshot.
+ * <p>
+ * Each write copies the array, changes the copy and publishes it, so writes
+ * are O(n). Writers take a lock among themselves, so no write is lost.
+ * <code>mutate</code> applies a whole batch of changes to a single copy and
+ * publishes them together, so a batch costs one copy however many changes it
+ * makes (plus the doublings if it grows the list), and readers see either
+ * none of the batch or all of it. The batch's array is published as it is,
+ * spare capacity included, rather than trimmed with another copy.
+ */
+public class SnapshotArrayList implements Iterable<Integer>
+{
+    private static final Snapshot EMPTY = new Snapshot(new int[0], 0);
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot current = EMPTY;
+    // set while a mutate action runs, guarded by writeLock
+    private boolean mutating;
+
+    /**
+     * Constructs an empty list.
+     */
+    public SnapshotArrayList() {
+    }
+
+    /**
+     * Returns an immutable view of the list as it is now. Later changes to the
+     * list do not affect it.
+     * @return the current contents of the list
+     */
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    /**
+     * Appends the specified element to the <b>end</b> of the list.
+     * @param item element to be appended to this list
+     * @throws NullPointerException if the item is null
+     */
+    public void addLast(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        synchronized (writeLock) {
+            checkNotMutating();
+            Snapshot s = current;
+            int[] copy = Arrays.copyOf(s.elements, s.size + 1);
+            copy[s.size] = item;
+            current = new Snapshot(copy, s.size + 1);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices).
+     * @param index index at which the specified element is to be inserted
+     * @param item element to be inserted
+     * @throws NullPointerException if the item is null
+     */
+    public void add(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        synchronized (writeLock) {
+            checkNotMutating();
+            Snapshot s = current;
+            if(index < 0 || index > s.size){
+                throw new IndexOutOfBoundsException();
+            }
+            int[] copy = new int[s.size + 1];
+            System.arraycopy(s.elements, 0, copy, 0, index);
+            System.arraycopy(s.elements, index, copy, index + 1, s.size - index);
+            copy[index] = item;
+            current = new Snapshot(copy, s.size + 1);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts any
+     * subsequent elements to the left (subtracts one from their indices).
+     * @param index the index of the element to remove
+     * @return the element that was removed from the list
+     */
+    public Integer remove(int index) {
+        synchronized (writeLock) {
+            checkNotMutating();
+            Snapshot s = current;
+            if(index < 0 || index >= s.size){
+                throw new IndexOutOfBoundsException();
+            }
+            int[] copy = new int[s.size - 1];
+            System.arraycopy(s.elements, 0, copy, 0, index);
+            System.arraycopy(s.elements, index + 1, copy, index, s.size - index - 1);
+            current = new Snapshot(copy, s.size - 1);
+            return s.elements[index];
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     * @param index index of the element to replace
+     * @param item element to be stored at the specified position
+     * @throws NullPointerException if the item is null
+     */
+    public void set(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        synchronized (writeLock) {
+            checkNotMutating();
+            Snapshot s = current;
+            if(index < 0 || index >= s.size){
+                throw new IndexOutOfBoundsException();
+            }
+            int[] copy = Arrays.copyOf(s.elements, s.size);
+            copy[index] = item;
+            current = new Snapshot(copy, s.size);
+        }
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    public void clear() {
+        synchronized (writeLock) {
+            checkNotMutating();
+            current = EMPTY;
+        }
+    }
+
+    /**
+     * Applies a batch of changes to the list at once. The action gets a
+     * <code>Batch</code> holding a private copy of the list; when it returns,
+     * the copy is published as the new contents of the list. Other writers wait
+     * until the batch is done. If the action throws, the list is left as it
+     * was. The batch must not be used after the action returns.
+     * <p>
+     * The action must make its changes through the batch. Writing to the list
+     * itself from inside the action, including a nested <code>mutate</code>,
+     * throws an <code>IllegalStateException</code>, since the batch would
+     * overwrite it when it is published. Reads of the list inside the action
+     * see the contents from before the batch.
+     * @param action the changes to make
+     * @throws NullPointerException if action is null
+     * @throws IllegalStateException if called from inside another batch
+     */
+    public void mutate(Consumer<Batch> action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        synchronized (writeLock) {
+            checkNotMutating();
+            Batch batch = new Batch(current);
+            mutating = true;
+            try {
+                action.accept(batch);
+                current = new Snapshot(batch.array, batch.size);
+            } finally {
+                mutating = false;
+                batch.array = null;
+            }
+        }
+    }
+
+    /**
+     * Rejects a write made from inside a <code>mutate</code> action. Only the
+     * thread running the action can get here while it runs, since it holds
+     * the write lock.
+     */
+    private void checkNotMutating() {
+        if(mutating){
+            throw new IllegalStateException("The list cannot be written while a batch is open");
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    public Integer get(int index) {
+        return snapshot().get(index);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return current.size;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     * @param item element to search for
+     * @return the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element
+     * @throws NullPointerException if the item is null
+     */
+    public int indexOf(Integer item) {
+        return snapshot().indexOf(item);
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified element.
+     * @param item element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     * @throws NullPointerException if the item is null
+     */
+    public boolean contains(Integer item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return current.size == 0;
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements of the current snapshot of this
+     * list, in proper sequence.
+     *
+     * @return an iterator over a snapshot of this list
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * An immutable view of the list at one moment. It can be shared between
+     * threads and read without any synchronization.
+     */
+    public static final class Snapshot implements Iterable<Integer>
+    {
+        // elements[0] up to (but not including) elements[size]; never modified
+        private final int[] elements;
+        private final int size;
+
+        private Snapshot(int[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        /**
+         * Returns the element at the specified position in this snapshot.
+         * @param index index of the element to return
+         * @return the element at the specified position
+         */
+        public int get(int index) {
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            return elements[index];
+        }
+
+        /**
+         * Returns the number of elements in this snapshot.
+         * @return the number of elements
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns <code>true</code> if this snapshot has no elements.
+         * @return true if this snapshot is empty
+         */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Returns the index of the first occurrence of the specified element
+         * in this snapshot, or -1 if it does not contain the element.
+         * @param item element to search for
+         * @return the index of the element, or -1 if it is absent
+         * @throws NullPointerException if the item is null
+         */
+        public int indexOf(Integer item) {
+            if(item == null){
+                throw new NullPointerException();
+            }
+            int value = item;
+            for(int i = 0; i < size; i++){
+                if(elements[i] == value){
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns <code>true</code> if this snapshot contains the specified
+         * element.
+         * @param item element whose presence is to be tested
+         * @return true if this snapshot contains the element
+         * @throws NullPointerException if the item is null
+         */
+        public boolean contains(Integer item) {
+            return indexOf(item) != -1;
+        }
+
+        /**
+         * Performs the given action on each element of this snapshot, in order.
+         * @param action the action to be performed for each element
+         * @throws NullPointerException if action is null
+         */
+        public void forEachInt(IntConsumer action) {
+            if(action == null){
+                throw new NullPointerException();
+            }
+            for(int i = 0; i < size; i++){
+                action.accept(elements[i]);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this snapshot in proper
+         * sequence.
+         *
+         * @return an iterator over the elements in this snapshot
+         */
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+                private int currentIndex = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return currentIndex < size;
+                }
+
+                @Override
+                public Integer next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return elements[currentIndex++];
+                }
+            };
+        }
+    }
+
+    /**
+     * A private, growable copy of the list handed to <code>mutate</code>. Its
+     * changes are published together when the action returns, after which it
+     * throws <code>IllegalStateException</code> on every call.
+     */
+    public static final class Batch
+    {
+        private int[] array;
+        private int size;
+
+        private Batch(Snapshot snapshot) {
+            // one copy, keeping any spare capacity the snapshot's array has
+            array = snapshot.elements.clone();
+            size = snapshot.size;
+        }
+
+        /**
+         * Appends the specified element to the <b>end</b> of the batch.
+         * @param item element to be appended
+         * @throws NullPointerException if the item is null
+         */
+        public void addLast(Integer item) {
+            add(size(), item);
+        }
+
+        /**
+         * Inserts the specified element at the specified position.
+         * @param index index at which the element is to be inserted
+         * @param item element to be inserted
+         * @throws NullPointerException if the item is null
+         */
+        public void add(int index, Integer item) {
+            if(item == null){
+                throw new NullPointerException();
+            }
+            ensureOpen();
+            if(index < 0 || index > size){
+                throw new IndexOutOfBoundsException();
+            }
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.max(10, array.length * 2));
+            }
+            System.arraycopy(array, index, array, index + 1, size - index);
+            array[index] = item;
+            size++;
+        }
+
+        /**
+         * Removes the element at the specified position.
+         * @param index the index of the element to remove
+         * @return the element that was removed
+         */
+        public Integer remove(int index) {
+            ensureOpen();
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            int temp = array[index];
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+            size--;
+            return temp;
+        }
+
+        /**
+         * Returns the element at the specified position.
+         * @param index index of the element to return
+         * @return the element at the specified position
+         */
+        public Integer get(int index) {
+            ensureOpen();
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            return array[index];
+        }
+
+        /**
+         * Replaces the element at the specified position.
+         * @param index index of the element to replace
+         * @param item element to be stored at the specified position
+         * @throws NullPointerException if the item is null
+         */
+        public void set(int index, Integer item) {
+            if(item == null){
+                throw new NullPointerException();
+            }
+            ensureOpen();
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException();
+            }
+            array[index] = item;
+        }
+
+        /**
+         * Returns the number of elements in the batch.
+         * @return the number of elements
+         */
+        public int size() {
+            ensureOpen();
+            return size;
+        }
+
+        /**
+         * Removes all the elements from the batch.
+         */
+        public void clear() {
+            ensureOpen();
+            size = 0;
+        }
+
+        private void ensureOpen() {
+            if(array == null){
+                throw new IllegalStateException("The batch has already been published");
+            }
+        }
+    }
+}
@@ -0,0 +1,426 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * The TieredArrayList class is a tiered vector: a list with the methods of
+ * <code>MyArrayList</code> that is fast both at random access and at
+ * inserting and removing in the middle.
+ * <p>
+ * The elements are kept in blocks of <code>B</code> ints (a power of two),
+ * listed in order in a top-level index. Every block is full except the last,
+ * so element <code>i</code> is at position <code>i % B</code> of block
+ * <code>i / B</code>, and <code>get</code> and <code>set</code> are O(1).
+ * Each block is a circular buffer, like <code>MyArrayList</code>'s array.
+ * <p>
+ * To insert, the last element of every full block from the insertion point
+ * onwards moves to the front of the next block. For a circular buffer that
+ * is O(1) per block: move the head back one slot and store the element
+ * there. Only the block that receives the new element shifts elements, and
+ * it shifts the shorter side. Removal works the same way in reverse. Both
+ * therefore cost O(B + n / B).
+ * <p>
+ * <code>B</code> follows the size of the list. When the list reaches 4B^2
+ * elements it is rebuilt with blocks twice as long, and when it falls below
+ * B^2/4 it is rebuilt with blocks half as long, so B stays between
+ * sqrt(n)/2 and 2 sqrt(n) (except that it never drops below 32). Then
+ * B + n / B is at most 4 sqrt(n), so both terms are O(sqrt n). Rebuilding is
+ * O(n), but it happens only after O(n) operations.
+ */
+public class TieredArrayList implements Iterable<Integer>
+{
+    private static final int MIN_SHIFT = 5;
+
+    // blocks hold 1 << shift ints
+    private int shift;
+    private int mask;
+    private int[][] blocks;
+    private int[] heads;
+    private int blockCount;
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public TieredArrayList() {
+        reset();
+    }
+
+    /**
+     * Appends the specified element to the <b>end</b> of the list.
+     * @param item element to be appended to this list
+     * @throws NullPointerException if the item is null
+     */
+    public void addLast(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        if(size == blockCount << shift){
+            appendBlock();
+        }
+        int b = blockCount - 1;
+        int count = size - (b << shift);
+        blocks[b][(heads[b] + count) & mask] = item;
+        size++;
+        growIfNeeded();
+    }
+
+    /**
+     * Inserts the specified element at the <b>front</b> of the list.
+     * @param item element to be inserted
+     * @throws NullPointerException if the item is null
+     */
+    public void addFirst(Integer item) {
+        add(0, item);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices).
+     * @param index index at which the specified element is to be inserted
+     * @param item element to be inserted
+     * @throws NullPointerException if the item is null
+     */
+    public void add(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        if(size == blockCount << shift){
+            appendBlock();
+        }
+        int b = index >>> shift;
+        int last = blockCount - 1;
+        // from the end backwards, the last element of each full block becomes
+        // the first element of the block after it
+        for(int c = last; c > b; c--){
+            int[] previous = blocks[c - 1];
+            int carried = previous[(heads[c - 1] + mask) & mask];
+            heads[c] = (heads[c] - 1) & mask;
+            blocks[c][heads[c]] = carried;
+        }
+
+        // block b now has a free slot both before its head and after its end
+        int count = b == last ? size - (b << shift) : mask;
+        int j = index & mask;
+        int[] block = blocks[b];
+        int head = heads[b];
+        if(j < count - j){
+            head = (head - 1) & mask;
+            for(int k = 0; k < j; k++){
+                block[(head + k) & mask] = block[(head + k + 1) & mask];
+            }
+            heads[b] = head;
+        }
+        else{
+            for(int k = count; k > j; k--){
+                block[(head + k) & mask] = block[(head + k - 1) & mask];
+            }
+        }
+        block[(head + j) & mask] = item;
+        size++;
+        growIfNeeded();
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts any
+     * subsequent elements to the left (subtracts one from their indices).
+     * @param index the index of the element to remove
+     * @return the element that was removed from the list
+     */
+    public Integer remove(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        int b = index >>> shift;
+        int last = blockCount - 1;
+        int count = b == last ? size - (b << shift) : mask + 1;
+        int j = index & mask;
+        int[] block = blocks[b];
+        int head = heads[b];
+        int temp = block[(head + j) & mask];
+        if(j < count - 1 - j){
+            for(int k = j; k > 0; k--){
+                block[(head + k) & mask] = block[(head + k - 1) & mask];
+            }
+            heads[b] = (head + 1) & mask;
+        }
+        else{
+            for(int k = j; k < count - 1; k++){
+                block[(head + k) & mask] = block[(head + k + 1) & mask];
+            }
+        }
+
+        // the first element of each later block moves to the end of the one before
+        for(int c = b + 1; c <= last; c++){
+            int first = blocks[c][heads[c]];
+            heads[c] = (heads[c] + 1) & mask;
+            blocks[c - 1][(heads[c - 1] + mask) & mask] = first;
+        }
+        size--;
+        if(size == last << shift){
+            // keep the emptied block as a spare for the next append
+            blockCount--;
+        }
+        shrinkIfNeeded();
+        return temp;
+    }
+
+    /**
+     * Removes and returns the first element in this list.
+     * @return the element that was at the front of the list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public Integer removeFirst() {
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Removes and returns the last element in this list.
+     * @return the element that was at the end of the list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public Integer removeLast() {
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    public Integer get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        int b = index >>> shift;
+        return blocks[b][(heads[b] + index) & mask];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     * @param index index of the element to replace
+     * @param item element to be stored at the specified position
+     * @throws NullPointerException if the item is null
+     */
+    public void set(int index, Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        int b = index >>> shift;
+        blocks[b][(heads[b] + index) & mask] = item;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     * @param item element to search for
+     * @return the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element
+     * @throws NullPointerException if the item is null
+     */
+    public int indexOf(Integer item) {
+        if(item == null){
+            throw new NullPointerException();
+        }
+        int value = item;
+        for(int b = 0; b < blockCount; b++){
+            int[] block = blocks[b];
+            int head = heads[b];
+            int count = Math.min(mask + 1, size - (b << shift));
+            for(int k = 0; k < count; k++){
+                if(block[(head + k) & mask] == value){
+                    return (b << shift) + k;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified element.
+     * @param item element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     * @throws NullPointerException if the item is null
+     */
+    public boolean contains(Integer item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    public void clear() {
+        reset();
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs the given action on each element of this list, in order.
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        if(action == null){
+            throw new NullPointerException();
+        }
+        for(int b = 0; b < blockCount; b++){
+            int[] block = blocks[b];
+            int head = heads[b];
+            int count = Math.min(mask + 1, size - (b << shift));
+            for(int k = 0; k < count; k++){
+                action.accept(block[(head + k) & mask]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of ints in each block, which is about the square
+     * root of the size of the list.
+     * @return the block length
+     */
+    public int blockLength() {
+        return mask + 1;
+    }
+
+    private void reset() {
+        shift = MIN_SHIFT;
+        mask = (1 << shift) - 1;
+        blocks = new int[4][];
+        heads = new int[4];
+        blockCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds an empty block at the end of the index, reusing the spare block if
+     * there is one.
+     */
+    private void appendBlock() {
+        if(blockCount == blocks.length){
+            int[][] newBlocks = new int[blocks.length * 2][];
+            System.arraycopy(blocks, 0, newBlocks, 0, blockCount);
+            blocks = newBlocks;
+            int[] newHeads = new int[heads.length * 2];
+            System.arraycopy(heads, 0, newHeads, 0, blockCount);
+            heads = newHeads;
+        }
+        if(blocks[blockCount] == null){
+            blocks[blockCount] = new int[mask + 1];
+        }
+        heads[blockCount] = 0;
+        blockCount++;
+    }
+
+    /**
+     * Doubles the block length once the list holds four times B squared
+     * elements.
+     */
+    private void growIfNeeded() {
+        if((long) size >= 4L << (2 * shift)){
+            rebuild(shift + 1);
+        }
+    }
+
+    /**
+     * Halves the block length once the list holds fewer than a quarter of B
+     * squared elements.
+     */
+    private void shrinkIfNeeded() {
+        if(shift > MIN_SHIFT && (long) size < (1L << (2 * shift)) / 4){
+            rebuild(shift - 1);
+        }
+    }
+
+    /**
+     * Copies the elements into new blocks of 1 << newShift ints.
+     */
+    private void rebuild(int newShift) {
+        int[] all = new int[size];
+        int[] cursor = new int[1];
+        forEachInt(value -> all[cursor[0]++] = value);
+
+        int length = 1 << newShift;
+        int count = (size + length - 1) >>> newShift;
+        shift = newShift;
+        mask = length - 1;
+        blocks = new int[Math.max(4, count * 2)][];
+        heads = new int[blocks.length];
+        blockCount = count;
+        for(int b = 0; b < count; b++){
+            blocks[b] = new int[length];
+            System.arraycopy(all, b << newShift, blocks[b], 0, Math.min(length, size - (b << newShift)));
+        }
+    }
+
+    /**
+     * Iterator Stuff
+     */
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new TieredArrayListIterator();
+    }
+
+    private class TieredArrayListIterator implements Iterator<Integer> {
+        private int currentIndex = 0;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(currentIndex++);
+        }
+    }
+}
@@ -0,0 +1,360 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The UnrolledLinkedList class is an unrolled variant of
+ * <code>MyLinkedList</code>: a singly-linked list whose nodes each hold a
+ * small <code>int[]</code> chunk of up to <code>NODE_CAPACITY</code> values
+ * instead of a single <code>Integer</code>.
+ * <p>
+ * Inserts and removes still only touch one node (plus a neighbor now and
+ * then), but positional lookups skip a whole chunk per step, scans run over
+ * contiguous arrays, and the per-element cost drops from a node and an
+ * <code>Integer</code> (about forty bytes) to little more than four bytes.
+ * <p>
+ * A full node is split in half before an insert, and a node that drops
+ * below half full after a remove borrows from or merges with its successor,
+ * so every node except the last stays at least half full. As in
+ * <code>IntArrayList</code>, the accessors use little-i <code>int</code>
+ * values, so nothing is boxed except by the <code>Iterator</code>.
+ */
+public class UnrolledLinkedList implements Iterable<Integer>
+{
+    /**
+     * The number of values each node can hold.
+     */
+    public static final int NODE_CAPACITY = 64;
+
+    /**
+     * The Node class holds a chunk of the list. The values of a node are
+     * <code>values[0]</code> up to (but not including)
+     * <code>values[count]</code>.
+     */
+    private static class Node
+    {
+        public final int[] values = new int[NODE_CAPACITY];
+        public int count;
+        public Node next;
+    }
+
+    private Node first;
+    private Node last;
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public UnrolledLinkedList() {
+        first = null;
+        last = null;
+        size = 0;
+    }
+
+    /**
+     * Inserts the specified int at the beginning of the list.
+     * @param item int to be inserted
+     */
+    public void addFirst(int item) {
+        if(first == null){
+            first = new Node();
+            last = first;
+        }
+        else if(first.count == NODE_CAPACITY){
+            // split like add does, rather than starting a one-element node
+            split(first);
+        }
+        insertAt(first, 0, item);
+    }
+
+    /**
+     * Appends the specified int to the end of the list.
+     * @param item int to be appended to this list
+     */
+    public void addLast(int item) {
+        if(last == null || last.count == NODE_CAPACITY){
+            Node newNode = new Node();
+            if(last == null){
+                first = newNode;
+            }
+            else{
+                last.next = newNode;
+            }
+            last = newNode;
+        }
+        insertAt(last, last.count, item);
+    }
+
+    /**
+     * Inserts the specified int at the specified position in this list.
+     * Shifts the element currently in that position (if any) and any subsequent
+     * elements to the right (adding one to their indices).
+     * @param index index at which the specified int is to be inserted
+     * @param item int to be inserted
+     */
+    public void add(int index, int item) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException();
+        }
+        if(index == size){
+            addLast(item);
+            return;
+        }
+
+        Node current = first;
+        while(index >= current.count){
+            index -= current.count;
+            current = current.next;
+        }
+        if(current.count == NODE_CAPACITY){
+            Node upper = split(current);
+            if(index > current.count){
+                index -= current.count;
+                current = upper;
+            }
+        }
+        insertAt(current, index, item);
+    }
+
+    /**
+     * Removes the int at the specified position in this list. Shifts any
+     * subsequent ints to the left (subtracts one from their indices).
+     * @param index the index of the int to remove
+     * @return the int that was removed from the list
+     */
+    public int remove(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        Node previous = null;
+        Node current = first;
+        while(index >= current.count){
+            index -= current.count;
+            previous = current;
+            current = current.next;
+        }
+        int temp = current.values[index];
+        System.arraycopy(current.values, index + 1, current.values, index, current.count - index - 1);
+        current.count--;
+        size--;
+
+        if(current.count == 0){
+            unlink(previous, current);
+        }
+        else if(current.count < NODE_CAPACITY / 2 && current.next != null){
+            rebalance(current);
+        }
+        return temp;
+    }
+
+    /**
+     * Returns the int at the specified position in this list.
+     * @param index index of the element to return
+     * @return the int at the specified position in this list
+     */
+    public int get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        Node current = first;
+        while(index >= current.count){
+            index -= current.count;
+            current = current.next;
+        }
+        return current.values[index];
+    }
+
+    /**
+     * Replaces the int at the specified position in this list with the
+     * specified int.
+     * @param index index of the int to replace
+     * @param item int to be stored at the specified position
+     */
+    public void set(int index, int item) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException();
+        }
+        Node current = first;
+        while(index >= current.count){
+            index -= current.count;
+            current = current.next;
+        }
+        current.values[index] = item;
+    }
+
+    /**
+     * Returns the number of ints in this list.
+     * @return the number of ints in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified int in this list,
+     * or -1 if this list does not contain the int.
+     * @param item int to search for
+     * @return the index of the first occurrence of the specified int in this list,
+     * or -1 if this list does not contain the int
+     */
+    public int indexOf(int item) {
+        int base = 0;
+        for(Node current = first; current != null; current = current.next){
+            int[] values = current.values;
+            for(int i = 0; i < current.count; i++){
+                if(values[i] == item){
+                    return base + i;
+                }
+            }
+            base += current.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this list contains the specified int.
+     * @param item int whose presence in this list is to be tested
+     * @return true if this list contains the specified int
+     */
+    public boolean contains(int item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Removes all the elements from this list. The list will be empty after this
+     * call returns.
+     */
+    public void clear() {
+        // garbage collection will handle this automatically
+        first = null;
+        last = null;
+        size = 0;
+    }
+
+    /**
+     * Returns <code>true</code> if this list has no elements.
+     * @return true if this list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Inserts an int into a node that has room for it.
+     * @param node the node to insert into
+     * @param offset position within the node
+     * @param item int to be inserted
+     */
+    private void insertAt(Node node, int offset, int item) {
+        System.arraycopy(node.values, offset, node.values, offset + 1, node.count - offset);
+        node.values[offset] = item;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked after it.
+     * @param node the full node
+     * @return the new node holding the upper half
+     */
+    private Node split(Node node) {
+        Node upper = new Node();
+        int keep = node.count / 2;
+        upper.count = node.count - keep;
+        System.arraycopy(node.values, keep, upper.values, 0, upper.count);
+        node.count = keep;
+        upper.next = node.next;
+        node.next = upper;
+        if(last == node){
+            last = upper;
+        }
+        return upper;
+    }
+
+    /**
+     * Tops up a node that has fallen below half full from its successor,
+     * merging the two if they fit in one node.
+     * @param node the sparse node, which must have a successor
+     */
+    private void rebalance(Node node) {
+        Node next = node.next;
+        if(node.count + next.count <= NODE_CAPACITY){
+            System.arraycopy(next.values, 0, node.values, node.count, next.count);
+            node.count += next.count;
+            unlink(node, next);
+        }
+        else{
+            int moved = NODE_CAPACITY / 2 - node.count;
+            System.arraycopy(next.values, 0, node.values, node.count, moved);
+            System.arraycopy(next.values, moved, next.values, 0, next.count - moved);
+            node.count += moved;
+            next.count -= moved;
+        }
+    }
+
+    /**
+     * Removes a node from the chain.
+     * @param previous the node before it, or null if it is the first node
+     * @param node the node to remove
+     */
+    private void unlink(Node previous, Node node) {
+        if(previous == null){
+            first = node.next;
+        }
+        else{
+            previous.next = node.next;
+        }
+        if(last == node){
+            last = previous;
+        }
+    }
+
+    /**
+     * Iterator Stuff
+     */
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    private class UnrolledLinkedListIterator implements Iterator<Integer> {
+        private Node current = first;
+        private int offset = 0;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int value = current.values[offset++];
+            if (offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The VectorIntScan class implements the searches of <code>IntScan</code>
+ * with the incubating Vector API. Each step loads one register's worth of
+ * elements, compares all of them with the value at once, and inspects the
+ * resulting mask; the few elements left over at the end of the range are
+ * handled by a scalar loop.
+ * <p>
+ * This class must only be used when <code>IntScan.VECTORIZED</code> is true,
+ * since loading it fails if the <code>jdk.incubator.vector</code> module is
+ * not present.
+ */
+final class VectorIntScan
+{
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorIntScan() {
+    }
+
+    /**
+     * Vectorized version of <code>IntScan.indexOf</code>.
+     * @param a array to search
+     * @param from first index to search
+     * @param to end of the range, exclusive
+     * @param value value to search for
+     * @return the index of the first occurrence, or -1 if there is none
+     */
+    static int indexOf(int[] a, int from, int to, int value) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, a, i)
+                    .compare(VectorOperators.EQ, value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Vectorized version of <code>IntScan.lastIndexOf</code>.
+     * @param a array to search
+     * @param from first index to search
+     * @param to end of the range, exclusive
+     * @param value value to search for
+     * @return the index of the last occurrence, or -1 if there is none
+     */
+    static int lastIndexOf(int[] a, int from, int to, int value) {
+        int i = to;
+        while (i - from >= SPECIES.length()) {
+            i -= SPECIES.length();
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, a, i)
+                    .compare(VectorOperators.EQ, value);
+            if (hits.anyTrue()) {
+                return i + hits.lastTrue();
+            }
+        }
+        for (i--; i >= from; i--) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Vectorized version of <code>IntScan.count</code>.
+     * @param a array to search
+     * @param from first index to search
+     * @param to end of the range, exclusive
+     * @param value value to count
+     * @return the number of occurrences
+     */
+    static int count(int[] a, int from, int to, int value) {
+        int count = 0;
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, a, i)
+                    .compare(VectorOperators.EQ, value)
+                    .trueCount();
+        }
+        for (; i < to; i++) {
+            if (a[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,137 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConcurrentArrayListTest {
+
+    private ConcurrentArrayList smallCAL;
+    private ConcurrentArrayList bigCAL;
+
+    @BeforeEach
+    public void setup() {
+        smallCAL = new ConcurrentArrayList();
+        bigCAL = new ConcurrentArrayList();
+    }
+
+    // this test requires implementation of addLast, add, get, set, size, and remove
+    @Test
+    public void testCALSmallComplex() {
+        assertTrue(smallCAL.isEmpty());
+        smallCAL.addLast(18);
+        smallCAL.addLast(45);
+        smallCAL.addLast(67);
+        smallCAL.addLast(73);
+        smallCAL.addLast(88); // 18, 45, 67, 73, 88
+
+        smallCAL.add(1, 34);
+        smallCAL.add(1, 22);
+        smallCAL.add(0, 9);
+        smallCAL.add(8, 91);
+        smallCAL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallCAL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallCAL.get(i));
+        }
+
+        assertEquals(73, smallCAL.remove(7));
+        assertEquals(34, smallCAL.remove(3));
+        assertEquals(9, smallCAL.remove(0));
+        smallCAL.set(0, 19);
+        assertEquals(19, smallCAL.get(0));
+        assertEquals(7, smallCAL.size());
+        assertEquals(2, smallCAL.indexOf(45));
+        assertTrue(smallCAL.contains(91));
+        assertFalse(smallCAL.contains(9));
+
+        smallCAL.clear();
+        assertTrue(smallCAL.isEmpty());
+    }
+
+    @Test
+    public void testCALExceptions() {
+        smallCAL.addLast(1);
+        assertThrows(NullPointerException.class, () -> smallCAL.addLast(null));
+        assertThrows(NullPointerException.class, () -> smallCAL.add(0, null));
+        assertThrows(NullPointerException.class, () -> smallCAL.set(0, null));
+        assertThrows(NullPointerException.class, () -> smallCAL.indexOf(null));
+        assertThrows(NullPointerException.class, () -> smallCAL.forEachInt(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallCAL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallCAL.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallCAL.set(1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallCAL.add(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallCAL.remove(1));
+    }
+
+    // readers racing writers (and growth) should only ever see values that were added
+    @Test
+    public void testCALConcurrentReadersAndWriters() throws InterruptedException {
+        int perWriter = 50000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for(int w = 0; w < 2; w++){
+            threads.add(new Thread(() -> {
+                for(int i = 0; i < perWriter; i++){
+                    bigCAL.addLast(i);
+                }
+            }));
+        }
+        for(int r = 0; r < 4; r++){
+            threads.add(new Thread(() -> {
+                try {
+                    for(int i = 0; i < 100000; i++){
+                        int n = bigCAL.size();
+                        if(n > 0){
+                            int value = bigCAL.get(n - 1 - i % n);
+                            assertTrue(value >= 0 && value < perWriter);
+                        }
+                    }
+                    for(Integer value : bigCAL){
+                        assertTrue(value >= 0 && value < perWriter);
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }));
+        }
+        for(Thread thread : threads){
+            thread.start();
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        if(failure.get() != null){
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(2 * perWriter, bigCAL.size());
+        long[] sum = new long[1];
+        bigCAL.forEachInt(value -> sum[0] += value);
+        assertEquals(2L * perWriter * (perWriter - 1) / 2, sum[0]);
+    }
+
+    // the iterator walks the list as it was when the iterator was made
+    @Test
+    public void testIteratorSnapshot() {
+        smallCAL.addLast(1);
+        smallCAL.addLast(2);
+        smallCAL.addLast(3);
+
+        Iterator<Integer> iterator = smallCAL.iterator();
+        smallCAL.set(1, 20);
+        smallCAL.addLast(4);
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
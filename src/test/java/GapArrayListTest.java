@@ -0,0 +1,147 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class GapArrayListTest {
+
+    private GapArrayList smallGAL;
+    private GapArrayList bigGAL;
+
+    @BeforeEach
+    public void setup() {
+        smallGAL = new GapArrayList();
+        bigGAL = new GapArrayList();
+    }
+
+    // this test requires implementation of addLast, add, get, set, size, and remove
+    @Test
+    public void testGALSmallComplex() {
+        assertTrue(smallGAL.isEmpty());
+        smallGAL.addLast(18);
+        smallGAL.addLast(45);
+        smallGAL.addLast(67);
+        smallGAL.addLast(73);
+        smallGAL.addLast(88); // 18, 45, 67, 73, 88
+
+        smallGAL.add(1, 34);
+        smallGAL.add(1, 22);
+        smallGAL.add(0, 9);
+        smallGAL.add(8, 91);
+        smallGAL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallGAL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallGAL.get(i));
+        }
+
+        assertEquals(73, smallGAL.remove(7));
+        assertEquals(34, smallGAL.remove(3));
+        assertEquals(9, smallGAL.remove(0));
+        smallGAL.set(0, 19);
+        assertEquals(19, smallGAL.get(0));
+        assertEquals(7, smallGAL.size());
+        assertEquals(2, smallGAL.indexOf(45));
+        assertTrue(smallGAL.contains(91));
+        assertFalse(smallGAL.contains(9));
+
+        smallGAL.clear();
+        assertTrue(smallGAL.isEmpty());
+        assertEquals(0, smallGAL.cursor());
+    }
+
+    // type and backspace at a cursor in the middle of a large list
+    @Test
+    public void testGALEditorPattern() {
+        for(int i = 0; i < 1000; i++){
+            bigGAL.addLast(i);
+        }
+        bigGAL.moveCursor(500);
+        assertEquals(500, bigGAL.cursor());
+        for(int i = 0; i < 100; i++){
+            bigGAL.add(500 + i, -i);
+            assertEquals(501 + i, bigGAL.cursor(), "The cursor should follow the inserts.");
+        }
+        for(int i = 99; i >= 50; i--){
+            assertEquals(-i, bigGAL.remove(500 + i));
+            assertEquals(500 + i, bigGAL.cursor(), "The cursor should follow the removes.");
+        }
+        assertEquals(1050, bigGAL.size());
+        assertEquals(499, bigGAL.get(499));
+        assertEquals(-49, bigGAL.get(549));
+        assertEquals(500, bigGAL.get(550));
+        assertEquals(999, bigGAL.get(1049));
+        assertEquals(550, bigGAL.indexOf(500));
+    }
+
+    // compare random edits against java.util.ArrayList
+    @Test
+    public void testGALMixedAgainstArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(4);
+            int value = random.nextInt(1000);
+            if(op == 0){
+                bigGAL.addLast(value);
+                expected.add(value);
+            }
+            else if(op == 1){
+                int index = random.nextInt(expected.size() + 1);
+                bigGAL.add(index, value);
+                expected.add(index, value);
+            }
+            else if(op == 2 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), bigGAL.remove(index));
+            }
+            else if(op == 3 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                bigGAL.set(index, value);
+                expected.set(index, value);
+            }
+        }
+        assertEquals(expected.size(), bigGAL.size());
+        int i = 0;
+        for(Integer value : bigGAL){
+            assertEquals(expected.get(i), value);
+            assertEquals(expected.get(i), bigGAL.get(i));
+            i++;
+        }
+    }
+
+    @Test
+    public void testGALExceptions() {
+        smallGAL.addLast(1);
+        assertThrows(NullPointerException.class, () -> smallGAL.addLast(null));
+        assertThrows(NullPointerException.class, () -> smallGAL.add(0, null));
+        assertThrows(NullPointerException.class, () -> smallGAL.set(0, null));
+        assertThrows(NullPointerException.class, () -> smallGAL.indexOf(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallGAL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallGAL.remove(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallGAL.add(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallGAL.moveCursor(2));
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        smallGAL.addLast(1);
+        smallGAL.addLast(3);
+        smallGAL.add(1, 2); // the gap now sits between 2 and 3
+
+        Iterator<Integer> iterator = smallGAL.iterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
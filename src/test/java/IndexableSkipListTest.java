@@ -0,0 +1,142 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class IndexableSkipListTest {
+
+    private IndexableSkipList smallISL;
+    private IndexableSkipList bigISL;
+
+    @BeforeEach
+    public void setup() {
+        smallISL = new IndexableSkipList();
+        bigISL = new IndexableSkipList();
+    }
+
+    // this test requires implementation of addFirst, add, get, set, size, and remove
+    @Test
+    public void testISLSmallComplex() {
+        assertTrue(smallISL.isEmpty());
+        smallISL.addFirst(88);
+        smallISL.addFirst(73);
+        smallISL.addFirst(67);
+        smallISL.addFirst(45);
+        smallISL.addFirst(18); // 18, 45, 67, 73, 88
+
+        smallISL.add(1, 34);
+        smallISL.add(1, 22);
+        smallISL.add(0, 9);
+        smallISL.add(8, 91);
+        smallISL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallISL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallISL.get(i));
+        }
+
+        assertEquals(73, smallISL.remove(7));
+        assertEquals(34, smallISL.remove(3));
+        assertEquals(9, smallISL.remove(0));
+        smallISL.set(0, 19);
+        assertEquals(19, smallISL.get(0));
+        assertEquals(7, smallISL.size());
+        assertEquals(2, smallISL.indexOf(45));
+        assertTrue(smallISL.contains(91));
+        assertFalse(smallISL.contains(9));
+
+        smallISL.clear();
+        assertTrue(smallISL.isEmpty());
+        smallISL.addFirst(1);
+        assertEquals(1, smallISL.get(0));
+    }
+
+    // positional access on a large list should not walk from the front
+    @Test
+    public void testISLLargeSimple() {
+        int max = 200000;
+        for(int i = 0; i < max; i++){
+            bigISL.add(i, i);
+        }
+        for(int i = 0; i < max; i += 997){
+            assertEquals(i, bigISL.get(i));
+        }
+        for(int i = max; i > 0; i--){
+            assertEquals(i, bigISL.size());
+            assertEquals(i - 1, bigISL.remove(i - 1));
+        }
+        assertTrue(bigISL.isEmpty());
+    }
+
+    // compare random edits against java.util.ArrayList
+    @Test
+    public void testISLMixedAgainstArrayList() {
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>();
+        for(int step = 0; step < 50000; step++){
+            int op = random.nextInt(4);
+            int value = random.nextInt(1000);
+            if(op == 0){
+                bigISL.addFirst(value);
+                expected.add(0, value);
+            }
+            else if(op == 1){
+                int index = random.nextInt(expected.size() + 1);
+                bigISL.add(index, value);
+                expected.add(index, value);
+            }
+            else if(op == 2 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), bigISL.remove(index));
+            }
+            else if(op == 3 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                bigISL.set(index, value);
+                assertEquals(value, bigISL.get(index));
+                expected.set(index, value);
+            }
+        }
+        assertEquals(expected.size(), bigISL.size());
+        int i = 0;
+        for(Integer value : bigISL){
+            assertEquals(expected.get(i), value);
+            assertEquals(expected.get(i), bigISL.get(i));
+            i++;
+        }
+    }
+
+    @Test
+    public void testISLExceptions() {
+        smallISL.addFirst(1);
+        assertThrows(NullPointerException.class, () -> smallISL.addFirst(null));
+        assertThrows(NullPointerException.class, () -> smallISL.add(0, null));
+        assertThrows(NullPointerException.class, () -> smallISL.set(0, null));
+        assertThrows(NullPointerException.class, () -> smallISL.indexOf(null));
+        assertThrows(NullPointerException.class, () -> smallISL.contains(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallISL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallISL.remove(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallISL.add(2, 5));
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        smallISL.addFirst(3);
+        smallISL.addFirst(2);
+        smallISL.addFirst(1);
+
+        Iterator<Integer> iterator = smallISL.iterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
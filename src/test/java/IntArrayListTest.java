@@ -0,0 +1,160 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class IntArrayListTest {
+
+    private IntArrayList smallIAL;
+    private IntArrayList bigIAL;
+
+    @BeforeEach
+    public void setup() {
+        smallIAL = new IntArrayList();
+        bigIAL = new IntArrayList();
+    }
+
+    // this test requires implementation of addLast, get, isEmpty, size, and set
+    @Test
+    public void testIALSmallSimple() {
+        assertTrue(smallIAL.isEmpty(), "After being constructed, int array list should be empty.");
+        assertEquals(0, smallIAL.size(), "Int array list should contain zero elements after being constructed.");
+
+        smallIAL.addLast(100);
+        smallIAL.addLast(101);
+        smallIAL.addLast(0);
+        assertFalse(smallIAL.isEmpty(), "After adding values, int array list should not be empty.");
+        assertEquals(3, smallIAL.size(), "After adding values, the int array list should contain three elements.");
+        assertEquals(100, smallIAL.get(0), "The element at index 0 should be 100.");
+        assertEquals(101, smallIAL.get(1), "The element at index 1 should be 101.");
+        assertEquals(0, smallIAL.get(2), "The element at index 2 should be 0.");
+
+        smallIAL.set(1, 201);
+        assertEquals(201, smallIAL.get(1), "After setting, the element at index 1 should be 201.");
+        assertEquals(3, smallIAL.size(), "Setting should not change the size.");
+    }
+
+    // this test requires implementation of addLast, add, get, size, and remove
+    @Test
+    public void testIALSmallComplex() {
+        smallIAL.addLast(18);
+        smallIAL.addLast(45);
+        smallIAL.addLast(67);
+        smallIAL.addLast(73);
+        smallIAL.addLast(88); // 18, 45, 67, 73, 88
+
+        smallIAL.add(1, 34);
+        smallIAL.add(1, 22);
+        smallIAL.add(0, 9);
+        smallIAL.add(8, 91);
+        smallIAL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallIAL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallIAL.get(i));
+        }
+
+        assertEquals(73, smallIAL.remove(7));
+        assertEquals(34, smallIAL.remove(3));
+        assertEquals(9, smallIAL.remove(0));
+        assertEquals(91, smallIAL.remove(6));
+        assertEquals(45, smallIAL.remove(2)); // 18, 22, 56, 67, 88
+
+        expected = new int[] {18, 22, 56, 67, 88};
+        assertEquals(expected.length, smallIAL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallIAL.get(i));
+        }
+
+        smallIAL.clear();
+        assertTrue(smallIAL.isEmpty());
+        assertEquals(0, smallIAL.size());
+    }
+
+    // ensure that capacity is managed properly
+    @Test
+    public void testIALLargeSimple() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            assertEquals(i, bigIAL.size());
+            bigIAL.addLast(i);
+        }
+        for(int i = max; i > 0; i--){
+            assertEquals(i, bigIAL.size());
+            assertEquals(i - 1, bigIAL.remove(i - 1));
+        }
+    }
+
+    // this test requires implementation of addLast, contains, and indexOf
+    @Test
+    public void testIALFinders() {
+        smallIAL.addLast(21);
+        smallIAL.addLast(-64);
+        smallIAL.addLast(94);
+        smallIAL.addLast(-64);
+
+        assertTrue(smallIAL.contains(21), "Contains cannot find element 21.");
+        assertTrue(smallIAL.contains(-64), "Contains cannot find element -64.");
+        assertFalse(smallIAL.contains(0), "Contains thinks it found element 0.");
+        assertFalse(smallIAL.contains(Integer.MAX_VALUE), "Contains thinks it found a big element.");
+
+        assertEquals(0, smallIAL.indexOf(21), "IndexOf cannot find element 21.");
+        assertEquals(1, smallIAL.indexOf(-64), "IndexOf should find the first -64.");
+        assertEquals(2, smallIAL.indexOf(94), "IndexOf cannot find element 94.");
+        assertEquals(-1, smallIAL.indexOf(0), "IndexOf thinks it found element 0.");
+    }
+
+    @Test
+    public void testIALIndexOutOfBounds() {
+        smallIAL.addLast(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> smallIAL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallIAL.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallIAL.set(1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallIAL.add(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallIAL.remove(1));
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        smallIAL.addLast(1);
+        smallIAL.addLast(2);
+        smallIAL.addLast(3);
+
+        Iterator<Integer> iterator = smallIAL.iterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testIntIterator() {
+        smallIAL.addLast(3);
+        smallIAL.addLast(3);
+        smallIAL.addLast(3);
+        smallIAL.set(1, 2);
+        smallIAL.set(0, 1);
+        smallIAL.set(2, 1000); // 1, 2, 1000
+
+        java.util.PrimitiveIterator.OfInt iterator = smallIAL.intIterator();
+        int[] seen = new int[3];
+        for(int i = 0; i < 3; i++){
+            assertTrue(iterator.hasNext());
+            seen[i] = iterator.nextInt();
+            assertEquals(smallIAL.get(i), seen[i]);
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        int[] sum = new int[1];
+        smallIAL.forEachInt(value -> sum[0] += value);
+        assertEquals(1003, sum[0]);
+        assertThrows(NullPointerException.class, () -> smallIAL.forEachInt(null));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class IntIntHashMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        IntIntHashMap map = new IntIntHashMap();
+        assertEquals(0, map.size());
+        assertEquals(-1, map.get(5, -1));
+
+        map.put(5, 50);
+        map.put(0, 7); // zero is stored outside the table
+        map.put(-3, 30);
+        assertEquals(3, map.size());
+        assertEquals(50, map.get(5, -1));
+        assertEquals(7, map.get(0, -1));
+        assertEquals(30, map.get(-3, -1));
+        assertTrue(map.containsKey(0));
+
+        map.put(5, 51);
+        assertEquals(51, map.get(5, -1));
+        assertEquals(3, map.size());
+
+        map.remove(5);
+        map.remove(0);
+        map.remove(42); // absent
+        assertFalse(map.containsKey(5));
+        assertFalse(map.containsKey(0));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(-3));
+    }
+
+    // compare random updates, including removals from long probe runs, against java.util.HashMap
+    @Test
+    public void testMixedAgainstHashMap() {
+        Random random = new Random(9);
+        IntIntHashMap map = new IntIntHashMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for(int step = 0; step < 100000; step++){
+            int key = random.nextInt(2000) - 1000;
+            if(random.nextInt(3) == 0){
+                map.remove(key);
+                expected.remove(key);
+            }
+            else{
+                map.put(key, step);
+                expected.put(key, step);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for(int key = -1000; key < 1000; key++){
+            assertEquals(expected.getOrDefault(key, -1), map.get(key, -1));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+public class IntListCodecTest {
+
+    // every kind of value should survive a round trip, with and without deltas
+    @Test
+    public void testCodecRoundTripMyArrayList() throws IOException {
+        Random random = new Random(18);
+        MyArrayList list = new MyArrayList();
+        list.addLast(0);
+        list.addLast(-1);
+        list.addLast(Integer.MIN_VALUE);
+        list.addLast(Integer.MAX_VALUE);
+        list.addLast(Integer.MIN_VALUE);
+        for(int i = 0; i < 20000; i++){
+            list.addLast(random.nextInt());
+        }
+        for(boolean delta : new boolean[] {false, true}){
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            IntListCodec.encode(list, out, delta);
+
+            MyArrayList copy = new MyArrayList();
+            copy.addLast(42);
+            IntListCodec.decode(new ByteArrayInputStream(out.toByteArray()), copy);
+            assertEquals(list.size() + 1, copy.size());
+            assertEquals(42, copy.get(0));
+            for(int i = 0; i < list.size(); i++){
+                assertEquals(list.get(i), copy.get(i + 1));
+            }
+        }
+    }
+
+    // a linked list written through a channel should read back the same
+    @Test
+    public void testCodecRoundTripMyLinkedList() throws IOException {
+        MyLinkedList list = new MyLinkedList();
+        for(int i = 0; i < 10000; i++){
+            list.addFirst(i % 7 - 3);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IntListCodec.encode(list, Channels.newChannel(out), false);
+        // small values of either sign take one byte each
+        assertTrue(out.size() < 10000 + 200);
+
+        MyLinkedList copy = new MyLinkedList();
+        IntListCodec.decode(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), copy);
+        assertEquals(list.size(), copy.size());
+        for(int i = 0; i < list.size(); i++){
+            assertEquals(list.get(i), copy.get(i));
+        }
+
+        MyLinkedList empty = new MyLinkedList();
+        out.reset();
+        IntListCodec.encode(empty, out, true);
+        IntListCodec.decode(new ByteArrayInputStream(out.toByteArray()), empty);
+        assertTrue(empty.isEmpty());
+    }
+
+    // sorted ids with small gaps should be several times smaller than raw ints
+    @Test
+    public void testCodecDeltaShrinksSortedIds() throws IOException {
+        Random random = new Random(5);
+        MyArrayList ids = new MyArrayList();
+        int id = 1000000;
+        for(int i = 0; i < 100000; i++){
+            id += 1 + random.nextInt(60);
+            ids.addLast(id);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IntListCodec.encode(ids, out, true);
+        assertTrue(out.size() * 3 < ids.size() * 4, "encoded " + out.size() + " bytes");
+    }
+
+    // a damaged block should be rejected before any of it is appended
+    @Test
+    public void testCodecCorruption() throws IOException {
+        MyArrayList list = new MyArrayList();
+        for(int i = 0; i < IntListCodec.BLOCK_VALUES * 2; i++){
+            list.addLast(i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IntListCodec.encode(list, out, true);
+        byte[] bytes = out.toByteArray();
+
+        byte[] flipped = bytes.clone();
+        flipped[flipped.length - 20] ^= 1; // inside the second block
+        MyArrayList target = new MyArrayList();
+        assertThrows(IOException.class, () -> IntListCodec.decode(new ByteArrayInputStream(flipped), target));
+        assertEquals(IntListCodec.BLOCK_VALUES, target.size());
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 12);
+        assertThrows(EOFException.class, () -> IntListCodec.decode(new ByteArrayInputStream(truncated), new MyArrayList()));
+
+        byte[] wrongMagic = bytes.clone();
+        wrongMagic[0] = 0;
+        assertThrows(IOException.class, () -> IntListCodec.decode(new ByteArrayInputStream(wrongMagic), new MyArrayList()));
+    }
+
+    // a block whose checksum holds but whose count is wrong must not append anything
+    @Test
+    public void testCodecWrongCount() throws IOException {
+        MyArrayList list = new MyArrayList();
+        list.addLast(100);
+        list.addLast(200);
+        list.addLast(300);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IntListCodec.encode(list, out, false);
+        byte[] bytes = out.toByteArray();
+        assertEquals(5 + 12 + 6 + 12, bytes.length); // two bytes per varint
+
+        byte[] tooMany = bytes.clone();
+        tooMany[5] = 4; // the count, just after the magic and flags
+        MyArrayList target = new MyArrayList();
+        target.addLast(7);
+        assertThrows(IOException.class, () -> IntListCodec.decode(new ByteArrayInputStream(tooMany), target));
+        assertEquals(1, target.size());
+
+        byte[] tooFew = bytes.clone();
+        tooFew[5] = 2;
+        assertThrows(IOException.class, () -> IntListCodec.decode(new ByteArrayInputStream(tooFew), target));
+        assertEquals(1, target.size());
+        assertEquals(7, target.get(0));
+    }
+}
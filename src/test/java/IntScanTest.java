@@ -0,0 +1,59 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+public class IntScanTest {
+
+    // check every range length around the vector width, with hits at every position
+    @Test
+    public void testScansAgainstLoops() {
+        Random random = new Random(21);
+        int[] a = new int[300];
+        for(int i = 0; i < a.length; i++){
+            a[i] = random.nextInt(8);
+        }
+        for(int from = 0; from < 20; from++){
+            for(int to = from; to <= a.length; to += 7){
+                for(int value = -1; value < 8; value++){
+                    int first = -1;
+                    int last = -1;
+                    int count = 0;
+                    for(int i = from; i < to; i++){
+                        if(a[i] == value){
+                            if(first == -1){
+                                first = i;
+                            }
+                            last = i;
+                            count++;
+                        }
+                    }
+                    assertEquals(first, IntScan.indexOf(a, from, to, value));
+                    assertEquals(last, IntScan.lastIndexOf(a, from, to, value));
+                    assertEquals(count, IntScan.count(a, from, to, value));
+                    if(IntScan.VECTORIZED){
+                        assertEquals(first, VectorIntScan.indexOf(a, from, to, value));
+                        assertEquals(last, VectorIntScan.lastIndexOf(a, from, to, value));
+                        assertEquals(count, VectorIntScan.count(a, from, to, value));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIntArrayListSearches() {
+        IntArrayList list = new IntArrayList();
+        for(int i = 0; i < 1000; i++){
+            list.addLast(i % 100);
+        }
+        assertEquals(42, list.indexOf(42));
+        assertEquals(942, list.lastIndexOf(42));
+        assertEquals(10, list.count(42));
+        assertEquals(-1, list.indexOf(100));
+        assertEquals(-1, list.lastIndexOf(100));
+        assertEquals(0, list.count(100));
+        list.remove(942); // the stale value past size must not be found
+        assertEquals(842, list.lastIndexOf(42));
+        assertEquals(9, list.count(42));
+    }
+}
@@ -0,0 +1,158 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+// the build runs the tests with -Dlists.metrics=true; without it the counters must not move
+public class ListMetricsTest {
+
+    @TempDir
+    Path dir;
+
+    // this test requires the hooks in addLast, add, get, set, indexOf, and the growth path
+    @Test
+    public void testArrayListCounters() {
+        ListMetrics metrics = ListMetrics.ARRAY_LIST;
+        long adds = metrics.getAdds();
+        long gets = metrics.getGets();
+        long sets = metrics.getSets();
+        long searches = metrics.getSearches();
+        long shifted = metrics.getElementsShifted();
+        long grows = metrics.getGrows();
+
+        MyArrayList list = new MyArrayList(2);
+        for(int i = 0; i < 10; i++){
+            list.addLast(i);
+        }
+        list.add(8, 100); // shifts the last two elements
+        list.get(3);
+        list.set(3, 7);
+        list.indexOf(9);
+        list.remove(0);
+
+        if(ListMetrics.ENABLED){
+            assertEquals(11, metrics.getAdds() - adds);
+            assertEquals(1, metrics.getGets() - gets);
+            assertEquals(1, metrics.getSets() - sets);
+            assertEquals(1, metrics.getSearches() - searches);
+            assertEquals(2, metrics.getElementsShifted() - shifted);
+            assertTrue(metrics.getGrows() - grows >= 3);
+        }
+        else{
+            assertEquals(adds, metrics.getAdds());
+            assertEquals(grows, metrics.getGrows());
+        }
+    }
+
+    // bulk and iterator edits must count every element they add or remove
+    @Test
+    public void testBulkCounters() {
+        ListMetrics array = ListMetrics.ARRAY_LIST;
+        long adds = array.getAdds();
+        long removes = array.getRemoves();
+
+        MyArrayList list = new MyArrayList();
+        list.addAll(new int[] {1, 2, 3, 4, 5, 6});
+        list.addAll(2, new int[] {7, 8});
+        list.addAll(list); // appends a copy of all eight
+        list.removeIf(value -> value % 2 == 0); // removes ten of sixteen
+        java.util.ListIterator<Integer> iterator = list.listIterator();
+        iterator.next();
+        iterator.remove();
+        iterator.add(9);
+        list.clear(); // removes the six left
+
+        MyLinkedList linked = new MyLinkedList();
+        ListMetrics links = ListMetrics.LINKED_LIST;
+        long linkedAdds = links.getAdds();
+        long linkedRemoves = links.getRemoves();
+        for(int i = 0; i < 10; i++){
+            linked.addFirst(i);
+        }
+        linked.removeIf(value -> value < 4);
+        java.util.ListIterator<Integer> linkedIterator = linked.listIterator();
+        linkedIterator.next();
+        linkedIterator.remove();
+        linkedIterator.add(11);
+        linkedIterator.add(12);
+        linked.clear();
+
+        if(ListMetrics.ENABLED){
+            assertEquals(6 + 2 + 8 + 1, array.getAdds() - adds);
+            assertEquals(10 + 1 + 6, array.getRemoves() - removes);
+            assertEquals(10 + 2, links.getAdds() - linkedAdds);
+            assertEquals(4 + 1 + 7, links.getRemoves() - linkedRemoves);
+        }
+        else{
+            assertEquals(adds, array.getAdds());
+            assertEquals(linkedRemoves, links.getRemoves());
+        }
+    }
+
+    // a lookup by index should count the nodes it walks over
+    @Test
+    public void testLinkedListTraversal() {
+        ListMetrics metrics = ListMetrics.LINKED_LIST;
+        long traversed = metrics.getNodesTraversed();
+        long adds = metrics.getAdds();
+
+        MyLinkedList list = new MyLinkedList();
+        for(int i = 0; i < 100; i++){
+            list.addFirst(i);
+        }
+        list.get(50); // walks 50 nodes from the front
+        list.get(60); // walks 10 more from the finger
+        list.indexOf(-1); // walks the whole list
+
+        if(ListMetrics.ENABLED){
+            assertEquals(100, metrics.getAdds() - adds);
+            assertEquals(50 + 10 + 100, metrics.getNodesTraversed() - traversed);
+        }
+        else{
+            assertEquals(traversed, metrics.getNodesTraversed());
+        }
+    }
+
+    // the counters should be visible over JMX and growth should reach Flight Recorder
+    @Test
+    public void testPublishing() throws Exception {
+        ObjectName name = new ObjectName("lists:type=ListMetrics,name=MyArrayList");
+        assertEquals(ListMetrics.ENABLED, ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        if(!ListMetrics.ENABLED){
+            return;
+        }
+        assertEquals("MyArrayList", ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ListClass"));
+
+        Path file = dir.resolve("grow.jfr");
+        try(Recording recording = new Recording()){
+            recording.enable("lists.Grow");
+            recording.start();
+            MyArrayList list = new MyArrayList(4);
+            for(int i = 0; i < 5; i++){
+                list.addLast(i);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        boolean found = false;
+        for(RecordedEvent event : RecordingFile.readAllEvents(file)){
+            if(event.getInt("capacityBefore") == 4){
+                assertEquals("MyArrayList", event.getString("listClass"));
+                assertEquals(8, event.getInt("capacityAfter"));
+                found = true;
+            }
+        }
+        assertTrue(found, "no lists.Grow event from 4 to 8");
+
+        ListMetrics.LINKED_LIST.reset();
+        assertEquals(0, ListMetrics.LINKED_LIST.getAdds());
+        assertFalse(ListMetrics.LINKED_LIST.getNodesTraversed() > 0);
+    }
+}
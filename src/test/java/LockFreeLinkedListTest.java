@@ -0,0 +1,122 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class LockFreeLinkedListTest {
+
+    private LockFreeLinkedList smallLFL;
+    private LockFreeLinkedList bigLFL;
+
+    @BeforeEach
+    public void setup() {
+        smallLFL = new LockFreeLinkedList();
+        bigLFL = new LockFreeLinkedList();
+    }
+
+    // this test requires implementation of addFirst, remove, contains, and size
+    @Test
+    public void testLFLSmallSimple() {
+        assertTrue(smallLFL.isEmpty());
+        smallLFL.addFirst(3);
+        smallLFL.addFirst(2);
+        smallLFL.addFirst(1);
+        smallLFL.addFirst(2); // 2, 1, 2, 3
+        assertEquals(4, smallLFL.size());
+        assertTrue(smallLFL.contains(3));
+        assertFalse(smallLFL.contains(4));
+
+        assertTrue(smallLFL.remove(2));
+        assertTrue(smallLFL.contains(2));
+        assertTrue(smallLFL.remove(2));
+        assertFalse(smallLFL.contains(2));
+        assertFalse(smallLFL.remove(2));
+        assertTrue(smallLFL.remove(3));
+        assertEquals(1, smallLFL.size());
+        assertTrue(smallLFL.remove(1));
+        assertTrue(smallLFL.isEmpty());
+
+        assertThrows(NullPointerException.class, () -> smallLFL.addFirst(null));
+        assertThrows(NullPointerException.class, () -> smallLFL.remove(null));
+        assertThrows(NullPointerException.class, () -> smallLFL.contains(null));
+    }
+
+    // producers add distinct values while consumers remove them; each value must go exactly once
+    @Test
+    public void testLFLConcurrentAddRemove() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 5000;
+        int total = producers * perProducer;
+        AtomicIntegerArray removed = new AtomicIntegerArray(total);
+        List<Thread> threads = new ArrayList<>();
+        for(int p = 0; p < producers; p++){
+            int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                for(int i = 0; i < perProducer; i++){
+                    bigLFL.addFirst(base + i);
+                }
+            }));
+        }
+        for(int c = 0; c < 4; c++){
+            int offset = c;
+            threads.add(new Thread(() -> {
+                // each consumer tries every value, so values are fought over
+                for(int round = 0; round < 2; round++){
+                    for(int i = offset; i < total + offset; i++){
+                        int value = i % total;
+                        if(bigLFL.remove(value)){
+                            removed.incrementAndGet(value);
+                        }
+                    }
+                }
+            }));
+        }
+        for(Thread thread : threads){
+            thread.start();
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+
+        int left = 0;
+        for(Integer value : bigLFL){
+            assertEquals(0, removed.get(value));
+            left++;
+        }
+        int gone = 0;
+        for(int i = 0; i < total; i++){
+            assertTrue(removed.get(i) <= 1, "value " + i + " was removed twice");
+            gone += removed.get(i);
+        }
+        assertEquals(total, left + gone);
+        assertEquals(left, bigLFL.size());
+    }
+
+    // the iterator should skip removed elements and support remove
+    @Test
+    public void testIteratorBasic() {
+        smallLFL.addFirst(3);
+        smallLFL.addFirst(2);
+        smallLFL.addFirst(1);
+
+        Iterator<Integer> iterator = smallLFL.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(1, iterator.next());
+        smallLFL.remove(3);
+        assertEquals(2, iterator.next());
+        iterator.remove();
+        assertFalse(smallLFL.contains(2));
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(1, smallLFL.size());
+        assertTrue(smallLFL.remove(1));
+        assertTrue(smallLFL.isEmpty());
+    }
+}
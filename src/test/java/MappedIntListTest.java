@@ -0,0 +1,197 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class MappedIntListTest {
+
+    @TempDir
+    Path dir;
+
+    // a saved MyArrayList should map back with the same elements, even when wrapped around
+    @Test
+    public void testMLRoundTripMyArrayList() throws IOException {
+        MyArrayList list = new MyArrayList();
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            list.addLast(i);
+        }
+        for(int i = 0; i < 10; i++){
+            list.removeFirst();
+            list.addFirst(-i); // -9, 1 .. 99999 after the loop
+        }
+        Path file = dir.resolve("list.bin");
+        list.saveTo(file);
+        assertEquals(16 + 4L * max, Files.size(file));
+
+        try(MappedIntList mapped = MappedIntList.mapFrom(file)){
+            assertEquals(max, mapped.size());
+            assertTrue(mapped.isReadOnly());
+            for(int i = 0; i < max; i++){
+                assertEquals(list.get(i), mapped.get(i));
+            }
+            assertEquals(5, mapped.indexOf(5));
+            assertTrue(mapped.contains(-9));
+            assertFalse(mapped.contains(0));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, 1));
+        }
+    }
+
+    // saving over a file that is still mapped must not disturb the mapping
+    @Test
+    public void testMLSaveOverMappedFile() throws IOException {
+        IntArrayList list = new IntArrayList();
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            list.addLast(i);
+        }
+        Path file = dir.resolve("live.bin");
+        list.saveTo(file);
+        try(MappedIntList mapped = MappedIntList.mapFrom(file)){
+            IntArrayList shorter = new IntArrayList();
+            shorter.addLast(7);
+            shorter.saveTo(file);
+            // the old mapping still reads the old, longer contents
+            assertEquals(max, mapped.size());
+            assertEquals(max - 1, mapped.get(max - 1));
+            long[] sum = new long[1];
+            mapped.forEachInt(value -> sum[0] += value);
+            assertEquals((long) max * (max - 1) / 2, sum[0]);
+
+            try(MappedIntList reopened = MappedIntList.mapFrom(file)){
+                assertEquals(1, reopened.size());
+                assertEquals(7, reopened.get(0));
+            }
+        }
+        try(java.util.stream.Stream<Path> files = Files.list(dir)){
+            assertEquals(1, files.count(), "the temporary file should be gone");
+        }
+    }
+
+    // a saved file should get the permissions of any other new file, and keep an old file's
+    @Test
+    public void testMLSavePermissions() throws IOException {
+        if(!Files.getFileStore(dir).supportsFileAttributeView(java.nio.file.attribute.PosixFileAttributeView.class)){
+            return;
+        }
+        Path plain = dir.resolve("plain.bin");
+        Files.write(plain, new byte[] {1});
+        IntArrayList list = new IntArrayList();
+        list.addLast(1);
+        Path file = dir.resolve("saved.bin");
+        list.saveTo(file);
+        assertEquals(Files.getPosixFilePermissions(plain), Files.getPosixFilePermissions(file));
+
+        java.util.Set<java.nio.file.attribute.PosixFilePermission> shared =
+                java.nio.file.attribute.PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, shared);
+        list.addLast(2);
+        list.saveTo(file);
+        assertEquals(shared, Files.getPosixFilePermissions(file));
+        try(MappedIntList mapped = MappedIntList.mapFrom(file)){
+            assertEquals(2, mapped.size());
+        }
+    }
+
+    // the file layout is fixed, so check it byte for byte
+    @Test
+    public void testMLFileLayout() throws IOException {
+        IntArrayList list = new IntArrayList();
+        list.addLast(1);
+        list.addLast(-2);
+        list.addLast(0x01020304);
+        Path file = dir.resolve("small.bin");
+        list.saveTo(file);
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(28, bytes.capacity());
+        assertEquals(0x4C495354, bytes.getInt(0));
+        assertEquals(1, bytes.getInt(4));
+        assertEquals(3L, bytes.getLong(8));
+        assertEquals(1, bytes.getInt(16));
+        assertEquals(-2, bytes.getInt(20));
+        assertEquals(0x04, bytes.get(24));
+        assertEquals(0x01020304, bytes.getInt(24));
+    }
+
+    // changes to a copy-on-write list should never reach the file
+    @Test
+    public void testMLCopyOnWrite() throws IOException {
+        IntArrayList list = new IntArrayList();
+        for(int i = 0; i < 1000; i++){
+            list.addLast(i);
+        }
+        Path file = dir.resolve("cow.bin");
+        list.saveTo(file);
+
+        try(MappedIntList mapped = MappedIntList.mapFrom(file, true)){
+            assertFalse(mapped.isReadOnly());
+            mapped.set(500, -1);
+            assertEquals(-1, mapped.get(500));
+        }
+        try(MappedIntList mapped = MappedIntList.mapFrom(file)){
+            assertEquals(500, mapped.get(500));
+            long[] sum = new long[1];
+            mapped.forEachInt(value -> sum[0] += value);
+            assertEquals(999 * 1000 / 2, sum[0]);
+        }
+    }
+
+    @Test
+    public void testMLEmptyAndBadFiles() throws IOException {
+        Path empty = dir.resolve("empty.bin");
+        new MyArrayList().saveTo(empty);
+        try(MappedIntList mapped = MappedIntList.mapFrom(empty)){
+            assertTrue(mapped.isEmpty());
+            assertFalse(mapped.iterator().hasNext());
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(0));
+        }
+
+        Path garbage = dir.resolve("garbage.bin");
+        Files.write(garbage, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        assertThrows(IOException.class, () -> MappedIntList.mapFrom(garbage));
+
+        Path tooShort = dir.resolve("short.bin");
+        Files.write(tooShort, new byte[] {1, 2});
+        assertThrows(IOException.class, () -> MappedIntList.mapFrom(tooShort));
+
+        Path truncated = dir.resolve("truncated.bin");
+        IntArrayList list = new IntArrayList();
+        list.addLast(7);
+        list.addLast(8);
+        list.saveTo(truncated);
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, java.util.Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MappedIntList.mapFrom(truncated));
+    }
+
+    @Test
+    public void testIteratorBasic() throws IOException {
+        IntArrayList list = new IntArrayList();
+        list.addLast(1);
+        list.addLast(2);
+        list.addLast(3);
+        Path file = dir.resolve("iter.bin");
+        list.saveTo(file);
+
+        MappedIntList mapped = MappedIntList.mapFrom(file);
+        Iterator<Integer> iterator = mapped.iterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        mapped.close();
+        assertThrows(IllegalStateException.class, () -> mapped.get(0));
+    }
+}
@@ -236,6 +236,275 @@ public class MyArrayListTest {
                 "Argument to contains cannot be null.");
     }
 
+    // this test requires implementation of addAll
+    @Test
+    public void testMALAddAll() {
+        smallMAL.addLast(1);
+        smallMAL.addAll(new int[] {2, 3, 4});
+        assertEquals(4, smallMAL.size());
+        for(int i = 0; i < 4; i++){
+            assertEquals(i + 1, smallMAL.get(i));
+        }
+
+        MyArrayList other = new MyArrayList();
+        other.addAll(new int[] {5, 6});
+        smallMAL.addAll(other);
+        smallMAL.addAll(smallMAL); // 1, 2, 3, 4, 5, 6, 1, 2, 3, 4, 5, 6
+        assertEquals(12, smallMAL.size());
+        for(int i = 0; i < 12; i++){
+            assertEquals(i % 6 + 1, smallMAL.get(i));
+        }
+        assertEquals(2, other.size(), "The source list should not change.");
+
+        int[] many = new int[100000];
+        for(int i = 0; i < many.length; i++){
+            many[i] = i;
+        }
+        bigMAL.addAll(many);
+        assertEquals(many.length, bigMAL.size());
+        assertEquals(99999, bigMAL.get(99999));
+
+        assertThrows(NullPointerException.class, () -> smallMAL.addAll((int[]) null));
+        assertThrows(NullPointerException.class, () -> smallMAL.addAll((MyArrayList) null));
+    }
+
+    // this test requires implementation of addAll at an index
+    @Test
+    public void testMALAddAllAtIndex() {
+        smallMAL.addAll(new int[] {10, 40});
+        smallMAL.addAll(1, new int[] {20, 30});
+        smallMAL.addAll(0, new int[] {0});
+        smallMAL.addAll(5, new int[] {50, 60});
+        smallMAL.addAll(3, new int[] {});
+
+        assertEquals(7, smallMAL.size());
+        for(int i = 0; i < 7; i++){
+            assertEquals(i * 10, smallMAL.get(i));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> smallMAL.addAll(8, new int[] {1}));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallMAL.addAll(-1, new int[] {1}));
+        assertThrows(NullPointerException.class, () -> smallMAL.addAll(0, null));
+    }
+
+    // this test requires implementation of addFirst, removeFirst, and removeLast
+    @Test
+    public void testMALDeque() {
+        smallMAL.addLast(2);
+        smallMAL.addFirst(1);
+        smallMAL.addLast(3);
+        smallMAL.addFirst(0); // 0, 1, 2, 3
+        assertEquals(4, smallMAL.size());
+        for(int i = 0; i < 4; i++){
+            assertEquals(i, smallMAL.get(i));
+        }
+
+        assertEquals(0, smallMAL.removeFirst());
+        assertEquals(3, smallMAL.removeLast());
+        assertEquals(1, smallMAL.removeFirst());
+        assertEquals(2, smallMAL.removeLast());
+        assertTrue(smallMAL.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> smallMAL.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> smallMAL.removeLast());
+        assertThrows(NullPointerException.class, () -> smallMAL.addFirst(null));
+    }
+
+    // use the list as a FIFO queue, so the data wraps around the array many times
+    @Test
+    public void testMALQueue() {
+        int next = 0;
+        int expected = 0;
+        for(int round = 0; round < 1000; round++){
+            for(int i = 0; i < 7; i++){
+                bigMAL.addLast(next++);
+            }
+            for(int i = 0; i < 5; i++){
+                assertEquals(expected++, bigMAL.removeFirst());
+            }
+        }
+        assertEquals(2000, bigMAL.size());
+        for(int i = 0; i < bigMAL.size(); i++){
+            assertEquals(expected + i, bigMAL.get(i));
+        }
+
+        smallMAL.addFirst(-1);
+        smallMAL.addAll(bigMAL);
+        bigMAL.addAll(bigMAL);
+        assertEquals(2001, smallMAL.size());
+        assertEquals(4000, bigMAL.size());
+        for(int i = 0; i < 2000; i++){
+            assertEquals(expected + i, smallMAL.get(i + 1));
+            assertEquals(expected + i, bigMAL.get(i + 2000));
+        }
+    }
+
+    // compare a mix of operations on a wrapped list against java.util.ArrayList
+    @Test
+    public void testMALMixedAgainstArrayList() {
+        java.util.Random random = new java.util.Random(42);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(7);
+            int value = random.nextInt(1000);
+            if(op == 0){
+                bigMAL.addFirst(value);
+                expected.add(0, value);
+            }
+            else if(op == 1){
+                bigMAL.addLast(value);
+                expected.add(value);
+            }
+            else if(op == 2){
+                int index = random.nextInt(expected.size() + 1);
+                bigMAL.add(index, value);
+                expected.add(index, value);
+            }
+            else if(op == 3 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), bigMAL.remove(index));
+            }
+            else if(op == 4 && !expected.isEmpty()){
+                assertEquals(expected.remove(0), bigMAL.removeFirst());
+            }
+            else if(op == 5 && !expected.isEmpty()){
+                assertEquals(expected.remove(expected.size() - 1), bigMAL.removeLast());
+            }
+            else if(op == 6){
+                int index = random.nextInt(expected.size() + 1);
+                int[] items = {value, value + 1, value + 2};
+                bigMAL.addAll(index, items);
+                expected.addAll(index, java.util.List.of(value, value + 1, value + 2));
+            }
+        }
+        assertEquals(expected.size(), bigMAL.size());
+        int i = 0;
+        for(Integer value : bigMAL){
+            assertEquals(expected.get(i), value);
+            assertEquals(expected.get(i), bigMAL.get(i));
+            i++;
+        }
+    }
+
+    // the value index must agree with a plain scan after every kind of change
+    @Test
+    public void testMALValueIndex() {
+        java.util.Random random = new java.util.Random(17);
+        MyArrayList plain = new MyArrayList();
+        bigMAL.addAll(new int[] {4, 8, 4});
+        plain.addAll(new int[] {4, 8, 4});
+        bigMAL.enableValueIndex();
+        assertEquals(0, bigMAL.indexOf(4));
+        assertEquals(1, bigMAL.indexOf(8));
+
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(8);
+            int value = random.nextInt(50);
+            if(op == 0){
+                bigMAL.addLast(value);
+                plain.addLast(value);
+            }
+            else if(op == 1){
+                bigMAL.addFirst(value);
+                plain.addFirst(value);
+            }
+            else if(op == 2){
+                int index = random.nextInt(plain.size() + 1);
+                bigMAL.add(index, value);
+                plain.add(index, value);
+            }
+            else if(op == 3 && !plain.isEmpty()){
+                int index = random.nextInt(plain.size());
+                assertEquals(plain.remove(index), bigMAL.remove(index));
+            }
+            else if(op == 4 && !plain.isEmpty()){
+                assertEquals(plain.removeLast(), bigMAL.removeLast());
+            }
+            else if(op == 5 && !plain.isEmpty()){
+                assertEquals(plain.removeFirst(), bigMAL.removeFirst());
+            }
+            else if(op == 6 && !plain.isEmpty()){
+                int index = random.nextInt(plain.size());
+                bigMAL.set(index, value);
+                plain.set(index, value);
+            }
+            else if(op == 7){
+                bigMAL.addAll(new int[] {value, value + 1});
+                plain.addAll(new int[] {value, value + 1});
+            }
+            int probe = random.nextInt(52);
+            assertEquals(plain.indexOf(probe), bigMAL.indexOf(probe));
+            assertEquals(plain.contains(probe), bigMAL.contains(probe));
+        }
+
+        bigMAL.clear();
+        assertFalse(bigMAL.contains(4));
+        bigMAL.addLast(4);
+        assertEquals(0, bigMAL.indexOf(4));
+        bigMAL.disableValueIndex();
+        assertEquals(0, bigMAL.indexOf(4));
+    }
+
+    // edits at the ends move the index offset instead of forcing a rebuild
+    @Test
+    public void testMALValueIndexQueue() {
+        java.util.Random random = new java.util.Random(9);
+        MyArrayList plain = new MyArrayList();
+        bigMAL.enableValueIndex();
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(5);
+            int value = random.nextInt(20);
+            if(op == 0 || op == 1){
+                bigMAL.addLast(value);
+                plain.addLast(value);
+            }
+            else if(op == 2 && !plain.isEmpty()){
+                assertEquals(plain.removeFirst(), bigMAL.removeFirst());
+            }
+            else if(op == 3){
+                bigMAL.addFirst(value);
+                plain.addFirst(value);
+            }
+            else if(!plain.isEmpty()){
+                bigMAL.set(0, value);
+                plain.set(0, value);
+            }
+            int probe = random.nextInt(21);
+            assertEquals(plain.indexOf(probe), bigMAL.indexOf(probe));
+        }
+    }
+
+    // sequential and parallel streams should see every element exactly once
+    @Test
+    public void testStreams() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMAL.addLast(i);
+        }
+        long expected = (long) max * (max - 1) / 2;
+        assertEquals(expected, bigMAL.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, bigMAL.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, bigMAL.intStream().asLongStream().sum());
+        assertEquals(expected, bigMAL.intStream().parallel().asLongStream().sum());
+        assertEquals(max, bigMAL.intStream().parallel().distinct().count());
+        int[] ordered = bigMAL.intStream().parallel().toArray();
+        int i = 0;
+        for(Integer value : bigMAL){
+            assertEquals(value, ordered[i++]);
+        }
+
+        java.util.Spliterator.OfInt spliterator = bigMAL.spliterator();
+        assertTrue(spliterator.hasCharacteristics(java.util.Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(java.util.Spliterator.SUBSIZED));
+        assertEquals(max, spliterator.estimateSize());
+        java.util.Spliterator.OfInt prefix = spliterator.trySplit();
+        assertEquals(max, prefix.estimateSize() + spliterator.estimateSize());
+        assertTrue(prefix.hasCharacteristics(java.util.Spliterator.SIZED));
+
+        MyArrayList empty = new MyArrayList();
+        assertEquals(0, empty.intStream().parallel().count());
+        assertEquals(null, empty.spliterator().trySplit());
+    }
+
     // I ADDED SOME MORE TESTS SPECIFICALLY FOR ITERATORS
 
     @Test
@@ -271,4 +540,259 @@ public class MyArrayListTest {
         iterator.next(); // Consume the only element
         assertThrows(NoSuchElementException.class, iterator::next);
     }
-}
+
+    @Test
+    public void testIntIterator() {
+        smallMAL.addLast(3);
+        smallMAL.addLast(3);
+        smallMAL.addLast(3);
+        smallMAL.set(1, 2);
+        smallMAL.set(0, 1);
+        smallMAL.set(2, 1000); // 1, 2, 1000
+
+        java.util.PrimitiveIterator.OfInt iterator = smallMAL.intIterator();
+        int[] seen = new int[3];
+        for(int i = 0; i < 3; i++){
+            assertTrue(iterator.hasNext());
+            seen[i] = iterator.nextInt();
+            assertEquals(smallMAL.get(i), seen[i]);
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        int[] sum = new int[1];
+        smallMAL.forEachInt(value -> sum[0] += value);
+        assertEquals(1003, sum[0]);
+        assertThrows(NullPointerException.class, () -> smallMAL.forEachInt(null));
+    }
+
+    // filter and splice a big list in one pass with the list iterator
+    @Test
+    public void testListIteratorEdits() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMAL.addLast(i);
+        }
+        java.util.ListIterator<Integer> iterator = bigMAL.listIterator();
+        while(iterator.hasNext()){
+            int value = iterator.next();
+            if(value % 2 == 0){
+                iterator.remove();
+            }
+            else if(value % 3 == 0){
+                iterator.set(-value);
+                iterator.add(0);
+            }
+        }
+        // 1, -3, 0, 5, 7, -9, 0, 11, ...
+        assertEquals(1, bigMAL.get(0));
+        assertEquals(-3, bigMAL.get(1));
+        assertEquals(0, bigMAL.get(2));
+        assertEquals(5, bigMAL.get(3));
+        assertEquals(max / 2 + max / 6 + (max % 6 > 3 ? 1 : 0), bigMAL.size());
+        assertEquals(-1, bigMAL.indexOf(2));
+
+        // walk backwards from the end
+        iterator = bigMAL.listIterator(bigMAL.size());
+        assertEquals(0, iterator.previous()); // added after -99999
+        iterator.remove();
+        assertEquals(bigMAL.size(), iterator.nextIndex());
+        assertEquals(-(max - 1), iterator.previous());
+        iterator.add(42);
+        assertEquals(42, iterator.previous());
+        assertEquals(bigMAL.size() - 2, iterator.nextIndex());
+        assertEquals(-(max - 1), bigMAL.get(bigMAL.size() - 1));
+    }
+
+    // random iterator edits, with the gap closed by other calls now and then
+    @Test
+    public void testListIteratorAgainstArrayList() {
+        java.util.Random random = new java.util.Random(13);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for(int i = 0; i < 2000; i++){
+            bigMAL.addLast(i);
+            expected.add(i);
+        }
+        bigMAL.enableValueIndex();
+        for(int round = 0; round < 20; round++){
+            int start = random.nextInt(expected.size() + 1);
+            java.util.ListIterator<Integer> mine = bigMAL.listIterator(start);
+            java.util.ListIterator<Integer> theirs = expected.listIterator(start);
+            for(int step = 0; step < 500; step++){
+                int op = random.nextInt(10);
+                if(op < 4 && theirs.hasNext()){
+                    assertEquals(theirs.next(), mine.next());
+                    if(random.nextBoolean()){
+                        theirs.remove();
+                        mine.remove();
+                    }
+                }
+                else if(op < 6 && theirs.hasPrevious()){
+                    assertEquals(theirs.previous(), mine.previous());
+                    if(random.nextInt(3) == 0){
+                        theirs.set(-step);
+                        mine.set(-step);
+                    }
+                }
+                else if(op < 9){
+                    theirs.add(step);
+                    mine.add(step);
+                }
+                else if(!expected.isEmpty()){
+                    // reads close the gap without invalidating the iterator
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.get(index), bigMAL.get(index));
+                }
+                assertEquals(theirs.nextIndex(), mine.nextIndex());
+                assertEquals(expected.size(), bigMAL.size());
+            }
+            int probe = random.nextInt(2000);
+            assertEquals(expected.indexOf(probe), bigMAL.indexOf(probe));
+        }
+        int i = 0;
+        for(Integer value : bigMAL){
+            assertEquals(expected.get(i++), value);
+        }
+    }
+
+    // a filtering pass should move each element a bounded number of times
+    @Test
+    public void testListIteratorBatchesShifts() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMAL.addLast(i);
+        }
+        long shifted = ListMetrics.ARRAY_LIST.getElementsShifted();
+        java.util.ListIterator<Integer> iterator = bigMAL.listIterator();
+        while(iterator.hasNext()){
+            int value = iterator.next();
+            if(value % 2 == 0){
+                iterator.remove();
+            }
+            else{
+                iterator.add(value);
+            }
+        }
+        assertEquals(max, bigMAL.size());
+        assertEquals(1, bigMAL.get(0));
+        assertEquals(1, bigMAL.get(1));
+        assertEquals(max - 1, bigMAL.get(max - 1));
+        if(ListMetrics.ENABLED){
+            // one element at a time through remove and add would be about max * max / 4
+            assertTrue(ListMetrics.ARRAY_LIST.getElementsShifted() - shifted < 4L * max);
+        }
+    }
+
+    @Test
+    public void testListIteratorFailFast() {
+        MyArrayList list = new MyArrayList();
+        list.addLast(1);
+        list.addLast(2);
+        java.util.ListIterator<Integer> iterator = list.listIterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertThrows(IllegalStateException.class, () -> iterator.set(5));
+        assertThrows(NullPointerException.class, () -> iterator.add(null));
+        iterator.next();
+        list.addLast(3); // structural change behind the iterator's back
+        assertThrows(java.util.ConcurrentModificationException.class, iterator::next);
+        assertThrows(java.util.ConcurrentModificationException.class, iterator::remove);
+
+        java.util.ListIterator<Integer> second = list.listIterator(3);
+        assertFalse(second.hasNext());
+        assertThrows(NoSuchElementException.class, second::next);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(4));
+    }
+
+    // bulk removal should compact the list in one pass
+    @Test
+    public void testBulkRemoval() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMAL.addLast(i);
+        }
+        assertTrue(bigMAL.removeIf(value -> value % 3 != 0));
+        assertEquals(max / 3 + 1, bigMAL.size());
+        for(int i = 0; i < bigMAL.size(); i++){
+            assertEquals(3 * i, bigMAL.get(i));
+        }
+        assertFalse(bigMAL.removeIf(value -> value < 0));
+
+        assertTrue(bigMAL.removeAll(0, 3, 6, 7));
+        assertEquals(9, bigMAL.get(0));
+        assertFalse(bigMAL.removeAll(1, 2));
+        assertTrue(bigMAL.retainAll(99999, 9, 12, 5));
+        assertEquals(3, bigMAL.size());
+        assertEquals(9, bigMAL.get(0));
+        assertEquals(12, bigMAL.get(1));
+        assertEquals(99999, bigMAL.get(2));
+        assertTrue(bigMAL.retainAll());
+        assertTrue(bigMAL.isEmpty());
+
+        assertThrows(NullPointerException.class, () -> bigMAL.removeIf(null));
+        assertThrows(NullPointerException.class, () -> bigMAL.removeAll((int[]) null));
+        assertThrows(NullPointerException.class, () -> bigMAL.retainAll((int[]) null));
+    }
+
+    // a filter that throws must leave the list intact apart from what it already removed
+    @Test
+    public void testRemoveIfThrowingFilter() {
+        MyArrayList list = new MyArrayList();
+        for(int i = 0; i < 10; i++){
+            list.addLast(i);
+        }
+        assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if(value == 6){
+                throw new IllegalStateException();
+            }
+            return value % 2 == 0;
+        }));
+        // 0, 2, 4 removed; 6 onwards untouched
+        int[] expected = {1, 3, 5, 6, 7, 8, 9};
+        assertEquals(expected.length, list.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    // capacity should follow the size up and back down, with slack in between
+    @Test
+    public void testCapacityManagement() {
+        MyArrayList list = new MyArrayList(4, 1.5);
+        assertEquals(4, list.capacity());
+        for(int i = 0; i < 1000; i++){
+            list.addLast(i);
+        }
+        int peak = list.capacity();
+        assertTrue(peak >= 1000 && peak < 1500, "Growth should follow the factor.");
+
+        while(list.size() > peak / 4){
+            list.removeLast();
+        }
+        assertEquals(peak, list.capacity(), "No shrinking until the array is a quarter full.");
+        list.removeFirst();
+        assertEquals(peak / 2, list.capacity(), "The array should be halved once sparse.");
+        for(int i = 0; i < list.size(); i++){
+            assertEquals(i + 1, list.get(i));
+        }
+
+        list.removeIf(value -> value > 1);
+        assertEquals(1, list.size());
+        assertEquals(4, list.capacity(), "Shrinking should stop at the initial capacity.");
+
+        list.trimToSize();
+        assertEquals(1, list.capacity());
+        list.ensureCapacity(100);
+        assertEquals(100, list.capacity());
+        assertEquals(1, list.get(0));
+        list.clear();
+        assertEquals(100, list.capacity(), "Clear should not change the capacity.");
+
+        MyArrayList empty = new MyArrayList(0);
+        empty.addFirst(1);
+        empty.addLast(2);
+        assertEquals(2, empty.get(1));
+
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList(-1));
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList(10, 1.0));
+    }
+}
\ No newline at end of file
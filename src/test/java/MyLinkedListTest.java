@@ -244,6 +244,97 @@ public class MyLinkedListTest {
                 "Argument to contains cannot be null.");
     }
 
+    // sequential positional access should be cheap, even on a big list
+    @Test
+    public void testMLLSequentialAccess() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMLL.add(i, i); // append by index
+        }
+        long sum = 0;
+        for(int i = 0; i < max; i++){
+            sum += bigMLL.get(i);
+        }
+        assertEquals((long) max * (max - 1) / 2, sum);
+        for(int i = 0; i < max; i++){
+            bigMLL.set(i, -i);
+        }
+        for(int i = 0; i < max; i += 1000){
+            assertEquals(-i, bigMLL.get(i));
+        }
+    }
+
+    // mutations between lookups must keep the cached position correct
+    @Test
+    public void testMLLMixedAgainstArrayList() {
+        java.util.Random random = new java.util.Random(5);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(5);
+            int value = random.nextInt(1000);
+            if(op == 0){
+                bigMLL.addFirst(value);
+                expected.add(0, value);
+            }
+            else if(op == 1){
+                int index = random.nextInt(expected.size() + 1);
+                bigMLL.add(index, value);
+                expected.add(index, value);
+            }
+            else if(op == 2 && !expected.isEmpty()){
+                int index = random.nextInt(Math.min(3, expected.size()));
+                assertEquals(expected.remove(index), bigMLL.remove(index));
+            }
+            else if(op == 3 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), bigMLL.get(index));
+            }
+            else if(op == 4 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), bigMLL.remove(index));
+            }
+        }
+        assertEquals(expected.size(), bigMLL.size());
+        for(int i = 0; i < expected.size(); i++){
+            assertEquals(expected.get(i), bigMLL.get(i));
+        }
+        bigMLL.clear();
+        bigMLL.addFirst(7);
+        assertEquals(7, bigMLL.get(0));
+    }
+
+    // sequential and parallel streams should see every element exactly once
+    @Test
+    public void testStreams() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMLL.addFirst(i);
+        }
+        long expected = (long) max * (max - 1) / 2;
+        assertEquals(expected, bigMLL.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, bigMLL.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, bigMLL.intStream().asLongStream().sum());
+        assertEquals(expected, bigMLL.intStream().parallel().asLongStream().sum());
+        assertEquals(max, bigMLL.intStream().parallel().distinct().count());
+        int[] ordered = bigMLL.intStream().parallel().toArray();
+        int i = 0;
+        for(Integer value : bigMLL){
+            assertEquals(value, ordered[i++]);
+        }
+
+        java.util.Spliterator.OfInt spliterator = bigMLL.spliterator();
+        assertTrue(spliterator.hasCharacteristics(java.util.Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(java.util.Spliterator.SUBSIZED));
+        assertEquals(max, spliterator.estimateSize());
+        java.util.Spliterator.OfInt prefix = spliterator.trySplit();
+        assertEquals(max, prefix.estimateSize() + spliterator.estimateSize());
+        assertTrue(prefix.hasCharacteristics(java.util.Spliterator.SIZED));
+
+        MyLinkedList empty = new MyLinkedList();
+        assertEquals(0, empty.intStream().parallel().count());
+        assertEquals(null, empty.spliterator().trySplit());
+    }
+
     // I ADDED MORE TESTS SPECIFICALLY FOR ITERATORS
 
     @Test
@@ -279,4 +370,298 @@ public class MyLinkedListTest {
         iterator.next(); // Consume the only element
         assertThrows(NoSuchElementException.class, iterator::next);
     }
-}
+
+    @Test
+    public void testIntIterator() {
+        smallMLL.addFirst(3);
+        smallMLL.addFirst(3);
+        smallMLL.addFirst(3);
+        smallMLL.set(1, 2);
+        smallMLL.set(2, 1);
+        smallMLL.set(0, 1000); // 1000, 2, 1
+
+        java.util.PrimitiveIterator.OfInt iterator = smallMLL.intIterator();
+        int[] seen = new int[3];
+        for(int i = 0; i < 3; i++){
+            assertTrue(iterator.hasNext());
+            seen[i] = iterator.nextInt();
+            assertEquals(smallMLL.get(i), seen[i]);
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        int[] sum = new int[1];
+        smallMLL.forEachInt(value -> sum[0] += value);
+        assertEquals(1003, sum[0]);
+        assertThrows(NullPointerException.class, () -> smallMLL.forEachInt(null));
+    }
+
+    // filter and splice a big list in one pass with the list iterator
+    @Test
+    public void testListIteratorEdits() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMLL.addFirst(max - 1 - i);
+        }
+        java.util.ListIterator<Integer> iterator = bigMLL.listIterator();
+        while(iterator.hasNext()){
+            int value = iterator.next();
+            if(value % 2 == 0){
+                iterator.remove();
+            }
+            else if(value % 3 == 0){
+                iterator.set(-value);
+                iterator.add(0);
+            }
+        }
+        // 1, -3, 0, 5, 7, -9, 0, 11, ...
+        assertEquals(1, bigMLL.get(0));
+        assertEquals(-3, bigMLL.get(1));
+        assertEquals(0, bigMLL.get(2));
+        assertEquals(5, bigMLL.get(3));
+        assertEquals(max / 2 + max / 6 + (max % 6 > 3 ? 1 : 0), bigMLL.size());
+        assertEquals(-1, bigMLL.indexOf(2));
+
+        // walk backwards from the end
+        iterator = bigMLL.listIterator(bigMLL.size());
+        assertEquals(0, iterator.previous()); // added after -99999
+        iterator.remove();
+        assertEquals(bigMLL.size(), iterator.nextIndex());
+        assertEquals(-(max - 1), iterator.previous());
+        iterator.add(42);
+        assertEquals(42, iterator.previous());
+        assertEquals(bigMLL.size() - 2, iterator.nextIndex());
+        assertEquals(-(max - 1), bigMLL.get(bigMLL.size() - 1));
+    }
+
+    @Test
+    public void testListIteratorFailFast() {
+        MyLinkedList list = new MyLinkedList();
+        list.addFirst(1);
+        list.addFirst(2);
+        java.util.ListIterator<Integer> iterator = list.listIterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertThrows(IllegalStateException.class, () -> iterator.set(5));
+        assertThrows(NullPointerException.class, () -> iterator.add(null));
+        iterator.next();
+        list.addFirst(3); // structural change behind the iterator's back
+        assertThrows(java.util.ConcurrentModificationException.class, iterator::next);
+        assertThrows(java.util.ConcurrentModificationException.class, iterator::remove);
+
+        java.util.ListIterator<Integer> second = list.listIterator(3);
+        assertFalse(second.hasNext());
+        assertThrows(NoSuchElementException.class, second::next);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(4));
+    }
+
+    // bulk removal should compact the list in one pass
+    @Test
+    public void testBulkRemoval() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            bigMLL.addFirst(max - 1 - i);
+        }
+        assertTrue(bigMLL.removeIf(value -> value % 3 != 0));
+        assertEquals(max / 3 + 1, bigMLL.size());
+        for(int i = 0; i < bigMLL.size(); i++){
+            assertEquals(3 * i, bigMLL.get(i));
+        }
+        assertFalse(bigMLL.removeIf(value -> value < 0));
+
+        assertTrue(bigMLL.removeAll(0, 3, 6, 7));
+        assertEquals(9, bigMLL.get(0));
+        assertFalse(bigMLL.removeAll(1, 2));
+        assertTrue(bigMLL.retainAll(99999, 9, 12, 5));
+        assertEquals(3, bigMLL.size());
+        assertEquals(9, bigMLL.get(0));
+        assertEquals(12, bigMLL.get(1));
+        assertEquals(99999, bigMLL.get(2));
+        assertTrue(bigMLL.retainAll());
+        assertTrue(bigMLL.isEmpty());
+
+        assertThrows(NullPointerException.class, () -> bigMLL.removeIf(null));
+        assertThrows(NullPointerException.class, () -> bigMLL.removeAll((int[]) null));
+        assertThrows(NullPointerException.class, () -> bigMLL.retainAll((int[]) null));
+    }
+
+    // a filter that throws must leave the list intact apart from what it already removed
+    @Test
+    public void testRemoveIfThrowingFilter() {
+        MyLinkedList list = new MyLinkedList();
+        for(int i = 0; i < 10; i++){
+            list.addFirst(9 - i);
+        }
+        assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if(value == 6){
+                throw new IllegalStateException();
+            }
+            return value % 2 == 0;
+        }));
+        // 0, 2, 4 removed; 6 onwards untouched
+        int[] expected = {1, 3, 5, 6, 7, 8, 9};
+        assertEquals(expected.length, list.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    // removed nodes should be reused, up to the pool capacity, without changing the contents
+    @Test
+    public void testNodePool() {
+        assertThrows(IllegalArgumentException.class, () -> new MyLinkedList(-1));
+        MyLinkedList pooled = new MyLinkedList(8);
+        for(int i = 0; i < 20; i++){
+            pooled.addFirst(i);
+        }
+        assertEquals(0, pooled.pooledNodes());
+        pooled.remove(0);
+        pooled.remove(5);
+        assertEquals(2, pooled.pooledNodes());
+        pooled.removeIf(value -> value % 3 == 0); // removes 0, 3, 6, 9, 12, 15, 18
+        assertEquals(8, pooled.pooledNodes());
+        pooled.addFirst(100);
+        pooled.add(3, 101);
+        assertEquals(6, pooled.pooledNodes());
+
+        int[] expected = {100, 17, 16, 101, 14, 11, 10, 8, 7, 5, 4, 2, 1};
+        assertEquals(expected.length, pooled.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], pooled.get(i));
+        }
+
+        java.util.ListIterator<Integer> iterator = pooled.listIterator();
+        iterator.next();
+        iterator.remove();
+        iterator.add(102);
+        assertEquals(102, pooled.get(0));
+        assertEquals(6, pooled.pooledNodes());
+
+        pooled.clear();
+        assertEquals(8, pooled.pooledNodes());
+        assertTrue(pooled.isEmpty());
+        pooled.addFirst(7);
+        assertEquals(7, pooled.get(0));
+        assertEquals(1, pooled.size());
+        assertEquals(0, new MyLinkedList().pooledNodes());
+    }
+
+    // iterators holding a node that went back to the pool must fail fast, not read it
+    @Test
+    public void testNodePoolIteratorsFailFast() {
+        MyLinkedList pooled = new MyLinkedList(8);
+        for(int i = 0; i < 10; i++){
+            pooled.addFirst(i);
+        }
+        Iterator<Integer> iterator = pooled.iterator();
+        assertEquals(9, iterator.next());
+        pooled.remove(0);
+        assertThrows(java.util.ConcurrentModificationException.class, iterator::next);
+
+        java.util.PrimitiveIterator.OfInt ints = pooled.intIterator();
+        ints.nextInt();
+        pooled.addFirst(20);
+        assertThrows(java.util.ConcurrentModificationException.class, ints::nextInt);
+
+        java.util.Spliterator.OfInt spliterator = pooled.spliterator();
+        pooled.clear();
+        assertThrows(java.util.ConcurrentModificationException.class, () -> spliterator.tryAdvance((int value) -> { }));
+
+        for(int i = 0; i < 10; i++){
+            pooled.addFirst(i);
+        }
+        assertThrows(java.util.ConcurrentModificationException.class,
+                () -> pooled.intStream().forEach(value -> pooled.remove(0)));
+        // set is not a structural change
+        Iterator<Integer> unaffected = pooled.iterator();
+        pooled.set(0, 42);
+        assertEquals(42, unaffected.next());
+    }
+
+    // forEachInt must fail fast too, before it follows a node that went back to the pool
+    @Test
+    public void testNodePoolForEachIntFailFast() {
+        MyLinkedList pooled = new MyLinkedList(8);
+        for(int i = 0; i < 10; i++){
+            pooled.addFirst(i);
+        }
+        int[] visited = {0};
+        assertThrows(java.util.ConcurrentModificationException.class, () -> pooled.forEachInt(value -> {
+            visited[0]++;
+            pooled.remove(0);
+        }));
+        assertEquals(1, visited[0]);
+        assertEquals(9, pooled.size());
+        assertEquals(1, pooled.pooledNodes());
+    }
+
+    // a pooling list should behave exactly like java.util.ArrayList under random edits
+    @Test
+    public void testNodePoolMixedAgainstArrayList() {
+        java.util.Random random = new java.util.Random(25);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        MyLinkedList pooled = new MyLinkedList(16);
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(5);
+            int value = random.nextInt(1000);
+            if(op == 0){
+                pooled.addFirst(value);
+                expected.add(0, value);
+            }
+            else if(op == 1){
+                int index = random.nextInt(expected.size() + 1);
+                pooled.add(index, value);
+                expected.add(index, value);
+            }
+            else if(op == 2 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), pooled.remove(index));
+            }
+            else if(op == 3 && step % 50 == 0){
+                int modulus = 2 + random.nextInt(5);
+                pooled.removeIf(v -> v % modulus == 0);
+                expected.removeIf(v -> v % modulus == 0);
+            }
+            else if(op == 4 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), pooled.get(index));
+            }
+            assertTrue(pooled.pooledNodes() <= 16);
+        }
+        assertEquals(expected.size(), pooled.size());
+        int i = 0;
+        for(Integer value : pooled){
+            assertEquals(expected.get(i++), value);
+        }
+    }
+
+    // once the pool is warm, adding and removing should not allocate nodes
+    @Test
+    public void testNodePoolSteadyStateAllocation() {
+        java.lang.management.ThreadMXBean threads = java.lang.management.ManagementFactory.getThreadMXBean();
+        if(!(threads instanceof com.sun.management.ThreadMXBean)){
+            return;
+        }
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        if(!allocation.isThreadAllocatedMemorySupported() || !allocation.isThreadAllocatedMemoryEnabled()){
+            return;
+        }
+        MyLinkedList pooled = new MyLinkedList(64);
+        Integer item = 42;
+        int cycles = 200000;
+        for(int round = 0; round < 2; round++){
+            long before = allocation.getThreadAllocatedBytes(Thread.currentThread().getId());
+            for(int i = 0; i < cycles; i++){
+                pooled.addFirst(item);
+                pooled.add(1, item);
+                pooled.remove(1);
+                pooled.remove(0);
+            }
+            long allocated = allocation.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+            if(round == 1){
+                // without the pool this would be at least 2 * cycles * 16 bytes
+                assertTrue(allocated < cycles, "allocated " + allocated + " bytes");
+            }
+        }
+        assertEquals(2, pooled.pooledNodes());
+    }
+}
\ No newline at end of file
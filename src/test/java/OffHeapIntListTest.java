@@ -0,0 +1,204 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class OffHeapIntListTest {
+
+    private OffHeapIntList smallOHL;
+    private OffHeapIntList bigOHL;
+
+    @BeforeEach
+    public void setup() {
+        smallOHL = new OffHeapIntList();
+        bigOHL = new OffHeapIntList();
+    }
+
+    @AfterEach
+    public void teardown() {
+        smallOHL.close();
+        bigOHL.close();
+    }
+
+    // this test requires implementation of addLast, add, get, set, size, and remove
+    @Test
+    public void testOHLSmallComplex() {
+        assertTrue(smallOHL.isEmpty());
+        smallOHL.addLast(18);
+        smallOHL.addLast(45);
+        smallOHL.addLast(67);
+        smallOHL.addLast(73);
+        smallOHL.addLast(88); // 18, 45, 67, 73, 88
+
+        smallOHL.add(1, 34);
+        smallOHL.add(1, 22);
+        smallOHL.add(0, 9);
+        smallOHL.add(8, 91);
+        smallOHL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallOHL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallOHL.get(i));
+        }
+
+        assertEquals(73, smallOHL.remove(7));
+        assertEquals(34, smallOHL.remove(3));
+        assertEquals(9, smallOHL.remove(0));
+        assertEquals(91, smallOHL.removeLast());
+        smallOHL.set(0, 19);
+        assertEquals(19, smallOHL.get(0));
+        assertEquals(6, smallOHL.size());
+        assertEquals(2, smallOHL.indexOf(45));
+        assertEquals(-1, smallOHL.indexOf(91));
+        assertTrue(smallOHL.contains(88));
+
+        smallOHL.clear();
+        assertTrue(smallOHL.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> smallOHL.removeLast());
+    }
+
+    // ensure that capacity is managed properly
+    @Test
+    public void testOHLLargeSimple() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            assertEquals(i, bigOHL.size());
+            bigOHL.addLast(i);
+        }
+        assertTrue(bigOHL.capacity() >= max);
+        long[] sum = new long[1];
+        bigOHL.forEachInt(value -> sum[0] += value);
+        assertEquals((long) max * (max - 1) / 2, sum[0]);
+        for(int i = max; i > 0; i--){
+            assertEquals(i, bigOHL.size());
+            assertEquals(i - 1, bigOHL.removeLast());
+        }
+    }
+
+    // inserts and removes must carry values across chunk boundaries
+    @Test
+    public void testOHLAcrossChunks() {
+        int max = OffHeapIntList.CHUNK_SIZE + 100;
+        bigOHL.ensureCapacity(max + 1);
+        for(int i = 0; i < max; i++){
+            bigOHL.addLast(i);
+        }
+        bigOHL.add(5, -1);
+        assertEquals(-1, bigOHL.get(5));
+        assertEquals(5, bigOHL.get(6));
+        assertEquals(OffHeapIntList.CHUNK_SIZE - 2, bigOHL.get(OffHeapIntList.CHUNK_SIZE - 1));
+        assertEquals(OffHeapIntList.CHUNK_SIZE - 1, bigOHL.get(OffHeapIntList.CHUNK_SIZE));
+        assertEquals(max - 1, bigOHL.get(max));
+
+        assertEquals(-1, bigOHL.remove(5));
+        bigOHL.add(OffHeapIntList.CHUNK_SIZE, -2); // first slot of the second chunk
+        assertEquals(-2, bigOHL.remove(OffHeapIntList.CHUNK_SIZE));
+        assertEquals(OffHeapIntList.CHUNK_SIZE - 1, bigOHL.remove(OffHeapIntList.CHUNK_SIZE - 1));
+        bigOHL.add(OffHeapIntList.CHUNK_SIZE - 1, OffHeapIntList.CHUNK_SIZE - 1);
+        assertEquals(max, bigOHL.size());
+        long[] mismatches = new long[1];
+        int[] expected = new int[1];
+        bigOHL.forEachInt(value -> {
+            if(value != expected[0]++){
+                mismatches[0]++;
+            }
+        });
+        assertEquals(0, mismatches[0]);
+    }
+
+    // compare random edits against java.util.ArrayList
+    @Test
+    public void testOHLMixedAgainstArrayList() {
+        Random random = new Random(16);
+        List<Integer> expected = new ArrayList<>();
+        for(int step = 0; step < 20000; step++){
+            int op = random.nextInt(4);
+            int value = random.nextInt();
+            if(op == 0){
+                bigOHL.addLast(value);
+                expected.add(value);
+            }
+            else if(op == 1){
+                int index = random.nextInt(expected.size() + 1);
+                bigOHL.add(index, value);
+                expected.add(index, value);
+            }
+            else if(op == 2 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), bigOHL.remove(index));
+            }
+            else if(op == 3 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                bigOHL.set(index, value);
+                expected.set(index, value);
+            }
+        }
+        assertEquals(expected.size(), bigOHL.size());
+        int i = 0;
+        for(Integer value : bigOHL){
+            assertEquals(expected.get(i), value);
+            i++;
+        }
+    }
+
+    // the byte views should hold exactly the elements, in native order
+    @Test
+    public void testOHLByteBuffers() {
+        for(int i = 0; i < 1000; i++){
+            smallOHL.addLast(i * 3);
+        }
+        ByteBuffer[] views = smallOHL.asByteBuffers();
+        assertEquals(1, views.length);
+        assertEquals(0, views[0].position());
+        assertEquals(1000 * Integer.BYTES, views[0].remaining());
+        assertTrue(views[0].isReadOnly());
+        for(int i = 0; i < 1000; i++){
+            assertEquals(i * 3, views[0].getInt(i * Integer.BYTES));
+        }
+
+        smallOHL.clear();
+        assertEquals(0, smallOHL.asByteBuffers().length);
+    }
+
+    @Test
+    public void testOHLExceptions() {
+        smallOHL.addLast(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> smallOHL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallOHL.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallOHL.set(1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallOHL.add(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallOHL.remove(1));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapIntList(-1));
+        assertThrows(NullPointerException.class, () -> smallOHL.forEachInt(null));
+
+        smallOHL.close();
+        smallOHL.close();
+        assertThrows(IllegalStateException.class, () -> smallOHL.get(0));
+        assertThrows(IllegalStateException.class, () -> smallOHL.addLast(2));
+        assertThrows(IllegalStateException.class, () -> smallOHL.iterator());
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        smallOHL.addLast(1);
+        smallOHL.addLast(2);
+        smallOHL.addLast(3);
+
+        Iterator<Integer> iterator = smallOHL.iterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
@@ -0,0 +1,170 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class PersistentIntVectorTest {
+
+    // this test requires implementation of addLast, get, set, removeLast, and size
+    @Test
+    public void testPIVSmallSimple() {
+        PersistentIntVector empty = PersistentIntVector.empty();
+        assertTrue(empty.isEmpty());
+        PersistentIntVector one = empty.addLast(100);
+        PersistentIntVector two = one.addLast(101);
+        PersistentIntVector changed = two.set(0, 5);
+
+        assertEquals(0, empty.size());
+        assertEquals(1, one.size());
+        assertEquals(100, one.get(0));
+        assertEquals(100, two.get(0));
+        assertEquals(101, two.get(1));
+        assertEquals(5, changed.get(0));
+        assertEquals(1, changed.indexOf(101));
+        assertTrue(changed.contains(5));
+        assertFalse(two.contains(5));
+
+        PersistentIntVector back = changed.removeLast();
+        assertEquals(1, back.size());
+        assertEquals(5, back.get(0));
+        assertEquals(2, changed.size());
+        assertTrue(back.removeLast().isEmpty());
+        assertThrows(NoSuchElementException.class, () -> empty.removeLast());
+    }
+
+    // grow past several trie levels, then shrink back, checking every version on the way
+    @Test
+    public void testPIVLargeGrowAndShrink() {
+        int max = 40000; // more than 32 * 32 * 32, so the trie gets four levels
+        PersistentIntVector[] versions = new PersistentIntVector[max + 1];
+        versions[0] = PersistentIntVector.empty();
+        for(int i = 0; i < max; i++){
+            versions[i + 1] = versions[i].addLast(i);
+        }
+        for(int n = 0; n <= max; n += 997){
+            assertEquals(n, versions[n].size());
+            for(int i = 0; i < n; i += 31){
+                assertEquals(i, versions[n].get(i));
+            }
+        }
+        PersistentIntVector shrinking = versions[max];
+        for(int n = max; n > 0; n--){
+            assertEquals(n, shrinking.size());
+            assertEquals(n - 1, shrinking.get(n - 1));
+            shrinking = shrinking.removeLast();
+        }
+        assertTrue(shrinking.isEmpty());
+        // the old versions must be untouched
+        assertEquals(max - 1, versions[max].get(max - 1));
+        assertEquals(1234, versions[max].get(1234));
+    }
+
+    // compare random versions against copies of java.util.ArrayList
+    @Test
+    public void testPIVMixedAgainstArrayList() {
+        Random random = new Random(22);
+        List<PersistentIntVector> vectors = new ArrayList<>();
+        List<List<Integer>> expected = new ArrayList<>();
+        vectors.add(PersistentIntVector.empty());
+        expected.add(new ArrayList<>());
+        for(int step = 0; step < 20000; step++){
+            int from = random.nextInt(vectors.size());
+            PersistentIntVector vector = vectors.get(from);
+            List<Integer> copy = new ArrayList<>(expected.get(from));
+            int op = random.nextInt(5);
+            int value = random.nextInt();
+            if(op <= 2){
+                vector = vector.addLast(value);
+                copy.add(value);
+            }
+            else if(op == 3 && !copy.isEmpty()){
+                int index = random.nextInt(copy.size());
+                vector = vector.set(index, value);
+                copy.set(index, value);
+            }
+            else if(op == 4 && !copy.isEmpty()){
+                vector = vector.removeLast();
+                copy.remove(copy.size() - 1);
+            }
+            // keep a bounded number of live versions
+            if(vectors.size() < 50){
+                vectors.add(vector);
+                expected.add(copy);
+            }
+            else{
+                int slot = random.nextInt(vectors.size());
+                vectors.set(slot, vector);
+                expected.set(slot, copy);
+            }
+        }
+        for(int v = 0; v < vectors.size(); v++){
+            PersistentIntVector vector = vectors.get(v);
+            List<Integer> copy = expected.get(v);
+            assertEquals(copy.size(), vector.size());
+            int i = 0;
+            for(Integer value : vector){
+                assertEquals(copy.get(i), value);
+                assertEquals(copy.get(i), vector.get(i));
+                i++;
+            }
+        }
+    }
+
+    // a builder should make the same vector as repeated addLast
+    @Test
+    public void testPIVBuilder() {
+        int max = 70000;
+        PersistentIntVector.Builder builder = PersistentIntVector.builder();
+        for(int i = 0; i < max; i++){
+            builder.addLast(i * 3);
+        }
+        assertEquals(max, builder.size());
+        PersistentIntVector built = builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.addLast(1));
+        assertThrows(IllegalStateException.class, () -> builder.build());
+
+        assertEquals(max, built.size());
+        long[] sum = new long[1];
+        built.forEachInt(value -> sum[0] += value);
+        assertEquals(3L * max * (max - 1) / 2, sum[0]);
+        for(int i = 0; i < max; i += 7){
+            assertEquals(i * 3, built.get(i));
+        }
+
+        PersistentIntVector more = built.addLast(-1).set(5, -5);
+        assertEquals(-1, more.get(max));
+        assertEquals(-5, more.get(5));
+        assertEquals(15, built.get(5));
+        assertEquals(max, built.size());
+
+        assertTrue(PersistentIntVector.builder().build().isEmpty());
+        assertEquals(3, PersistentIntVector.of(1, 2, 3).get(2));
+    }
+
+    @Test
+    public void testPIVIndexOutOfBounds() {
+        PersistentIntVector vector = PersistentIntVector.of(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(1, 5));
+        assertThrows(NullPointerException.class, () -> vector.forEachInt(null));
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        PersistentIntVector vector = PersistentIntVector.of(1, 2, 3);
+
+        Iterator<Integer> iterator = vector.iterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
@@ -0,0 +1,220 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SnapshotArrayListTest {
+
+    private SnapshotArrayList smallSAL;
+    private SnapshotArrayList bigSAL;
+
+    @BeforeEach
+    public void setup() {
+        smallSAL = new SnapshotArrayList();
+        bigSAL = new SnapshotArrayList();
+    }
+
+    // this test requires implementation of addLast, add, get, set, size, and remove
+    @Test
+    public void testSALSmallComplex() {
+        assertTrue(smallSAL.isEmpty());
+        smallSAL.addLast(18);
+        smallSAL.addLast(45);
+        smallSAL.addLast(67);
+        smallSAL.addLast(73);
+        smallSAL.addLast(88); // 18, 45, 67, 73, 88
+
+        smallSAL.add(1, 34);
+        smallSAL.add(1, 22);
+        smallSAL.add(0, 9);
+        smallSAL.add(8, 91);
+        smallSAL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallSAL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallSAL.get(i));
+        }
+
+        assertEquals(73, smallSAL.remove(7));
+        assertEquals(34, smallSAL.remove(3));
+        assertEquals(9, smallSAL.remove(0));
+        smallSAL.set(0, 19);
+        assertEquals(19, smallSAL.get(0));
+        assertEquals(7, smallSAL.size());
+        assertEquals(2, smallSAL.indexOf(45));
+        assertTrue(smallSAL.contains(91));
+        assertFalse(smallSAL.contains(9));
+
+        smallSAL.clear();
+        assertTrue(smallSAL.isEmpty());
+    }
+
+    // a snapshot should not see changes made after it was taken
+    @Test
+    public void testSALSnapshotIsImmutable() {
+        smallSAL.addLast(1);
+        smallSAL.addLast(2);
+        SnapshotArrayList.Snapshot before = smallSAL.snapshot();
+        smallSAL.set(0, 10);
+        smallSAL.addLast(3);
+        smallSAL.remove(1);
+
+        assertEquals(2, before.size());
+        assertEquals(1, before.get(0));
+        assertEquals(2, before.get(1));
+        assertTrue(before.contains(2));
+        assertFalse(before.contains(10));
+        assertEquals(2, smallSAL.size());
+        assertEquals(10, smallSAL.get(0));
+        assertEquals(3, smallSAL.get(1));
+    }
+
+    // a batch is published all at once, not at all if it throws, and is unusable afterwards
+    @Test
+    public void testSALMutate() {
+        smallSAL.addLast(5);
+        SnapshotArrayList.Batch[] leaked = new SnapshotArrayList.Batch[1];
+        smallSAL.mutate(batch -> {
+            for(int i = 0; i < 100; i++){
+                batch.addLast(i);
+            }
+            batch.set(0, batch.get(0) * 2);
+            batch.remove(1);
+            batch.add(0, -1);
+            assertEquals(1, smallSAL.size(), "changes must not be visible before the batch ends");
+            leaked[0] = batch;
+        });
+        assertEquals(101, smallSAL.size());
+        assertEquals(-1, smallSAL.get(0));
+        assertEquals(10, smallSAL.get(1));
+        assertEquals(1, smallSAL.get(2));
+        assertEquals(99, smallSAL.get(100));
+        assertThrows(IllegalStateException.class, () -> leaked[0].addLast(1));
+        assertThrows(IllegalStateException.class, () -> leaked[0].size());
+
+        assertThrows(IllegalArgumentException.class, () -> smallSAL.mutate(batch -> {
+            batch.clear();
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(101, smallSAL.size());
+        assertThrows(NullPointerException.class, () -> smallSAL.mutate(null));
+    }
+
+    // readers iterating snapshots while a writer replaces entries should always see whole batches
+    // writing to the list from inside a batch would be lost, so it must throw
+    @Test
+    public void testSALReentrantWrites() {
+        smallSAL.addLast(1);
+        smallSAL.addLast(2);
+        smallSAL.mutate(batch -> {
+            for(int i = 0; i < 100; i++){
+                batch.addLast(i); // grows the batch's array several times
+            }
+            assertThrows(IllegalStateException.class, () -> smallSAL.addLast(300));
+            assertThrows(IllegalStateException.class, () -> smallSAL.set(0, 300));
+            assertThrows(IllegalStateException.class, () -> smallSAL.remove(0));
+            assertThrows(IllegalStateException.class, () -> smallSAL.clear());
+            assertThrows(IllegalStateException.class, () -> smallSAL.mutate(inner -> inner.addLast(300)));
+            // reads see the list from before the batch
+            assertEquals(2, smallSAL.size());
+        });
+        assertEquals(102, smallSAL.size());
+        assertEquals(1, smallSAL.get(0));
+        assertEquals(99, smallSAL.get(101));
+        assertEquals(-1, smallSAL.indexOf(300));
+        int[] count = new int[1];
+        smallSAL.snapshot().forEachInt(value -> count[0]++);
+        assertEquals(102, count[0]);
+
+        // the list is writable again, and copies of a published spare array stay exact
+        smallSAL.addLast(500);
+        assertEquals(103, smallSAL.size());
+        assertEquals(500, smallSAL.get(102));
+        smallSAL.mutate(batch -> batch.remove(0));
+        assertEquals(2, smallSAL.get(0));
+        assertEquals(102, smallSAL.size());
+    }
+
+    @Test
+    public void testSALConcurrentReaders() throws InterruptedException {
+        int size = 100;
+        bigSAL.mutate(batch -> {
+            for(int i = 0; i < size; i++){
+                batch.addLast(0);
+            }
+        });
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(new Thread(() -> {
+            for(int round = 1; round <= 2000; round++){
+                int value = round;
+                bigSAL.mutate(batch -> {
+                    for(int i = 0; i < size; i++){
+                        batch.set(i, value);
+                    }
+                });
+            }
+        }));
+        for(int r = 0; r < 3; r++){
+            threads.add(new Thread(() -> {
+                try {
+                    for(int i = 0; i < 5000; i++){
+                        SnapshotArrayList.Snapshot snapshot = bigSAL.snapshot();
+                        int first = snapshot.get(0);
+                        for(Integer value : snapshot){
+                            assertEquals(first, value);
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }));
+        }
+        for(Thread thread : threads){
+            thread.start();
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        if(failure.get() != null){
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(2000, bigSAL.get(size - 1));
+    }
+
+    @Test
+    public void testSALExceptions() {
+        smallSAL.addLast(1);
+        assertThrows(NullPointerException.class, () -> smallSAL.addLast(null));
+        assertThrows(NullPointerException.class, () -> smallSAL.add(0, null));
+        assertThrows(NullPointerException.class, () -> smallSAL.set(0, null));
+        assertThrows(NullPointerException.class, () -> smallSAL.indexOf(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallSAL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallSAL.set(1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallSAL.add(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallSAL.remove(1));
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        smallSAL.addLast(1);
+        smallSAL.addLast(2);
+        smallSAL.addLast(3);
+
+        Iterator<Integer> iterator = smallSAL.iterator();
+        smallSAL.clear();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
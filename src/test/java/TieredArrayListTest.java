@@ -0,0 +1,154 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class TieredArrayListTest {
+
+    private TieredArrayList smallTAL;
+    private TieredArrayList bigTAL;
+
+    @BeforeEach
+    public void setup() {
+        smallTAL = new TieredArrayList();
+        bigTAL = new TieredArrayList();
+    }
+
+    // this test requires implementation of addLast, add, get, set, size, and remove
+    @Test
+    public void testTALSmallComplex() {
+        assertTrue(smallTAL.isEmpty());
+        smallTAL.addLast(18);
+        smallTAL.addLast(45);
+        smallTAL.addLast(67);
+        smallTAL.addLast(73);
+        smallTAL.addLast(88); // 18, 45, 67, 73, 88
+
+        smallTAL.add(1, 34);
+        smallTAL.add(1, 22);
+        smallTAL.addFirst(9);
+        smallTAL.add(8, 91);
+        smallTAL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallTAL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallTAL.get(i));
+        }
+
+        assertEquals(73, smallTAL.remove(7));
+        assertEquals(34, smallTAL.remove(3));
+        assertEquals(9, smallTAL.removeFirst());
+        assertEquals(91, smallTAL.removeLast());
+        smallTAL.set(0, 19);
+        assertEquals(19, smallTAL.get(0));
+        assertEquals(6, smallTAL.size());
+        assertEquals(2, smallTAL.indexOf(45));
+        assertTrue(smallTAL.contains(88));
+        assertFalse(smallTAL.contains(9));
+
+        smallTAL.clear();
+        assertTrue(smallTAL.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> smallTAL.removeFirst());
+    }
+
+    // grow through several block lengths, then shrink back
+    @Test
+    public void testTALLargeSimple() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            assertEquals(i, bigTAL.size());
+            bigTAL.addLast(i);
+        }
+        assertTrue(bigTAL.blockLength() >= 128 && bigTAL.blockLength() <= 512);
+        for(int i = 0; i < max; i += 97){
+            assertEquals(i, bigTAL.get(i));
+        }
+        for(int i = max; i > 0; i--){
+            assertEquals(i, bigTAL.size());
+            assertEquals(max - i, bigTAL.removeFirst());
+        }
+        assertTrue(bigTAL.isEmpty());
+        assertEquals(32, bigTAL.blockLength());
+    }
+
+    // compare random edits against java.util.ArrayList
+    @Test
+    public void testTALMixedAgainstArrayList() {
+        Random random = new Random(23);
+        List<Integer> expected = new ArrayList<>();
+        for(int step = 0; step < 100000; step++){
+            int op = random.nextInt(5);
+            int value = random.nextInt(1000);
+            if(op == 0){
+                bigTAL.addLast(value);
+                expected.add(value);
+            }
+            else if(op == 1){
+                int index = random.nextInt(expected.size() + 1);
+                bigTAL.add(index, value);
+                expected.add(index, value);
+            }
+            else if(op == 2 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), bigTAL.remove(index));
+            }
+            else if(op == 3 && !expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                bigTAL.set(index, value);
+                expected.set(index, value);
+            }
+            else if(op == 4 && step % 7 == 0){
+                // long runs of removals exercise the shrinking rebuilds
+                while(expected.size() > 10 && random.nextInt(100) != 0){
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), bigTAL.remove(index));
+                }
+            }
+        }
+        assertEquals(expected.size(), bigTAL.size());
+        int i = 0;
+        for(Integer value : bigTAL){
+            assertEquals(expected.get(i), value);
+            assertEquals(expected.get(i), bigTAL.get(i));
+            i++;
+        }
+        assertEquals(expected.indexOf(expected.get(expected.size() / 2)), bigTAL.indexOf(expected.get(expected.size() / 2)));
+    }
+
+    @Test
+    public void testTALExceptions() {
+        smallTAL.addLast(1);
+        assertThrows(NullPointerException.class, () -> smallTAL.addLast(null));
+        assertThrows(NullPointerException.class, () -> smallTAL.add(0, null));
+        assertThrows(NullPointerException.class, () -> smallTAL.set(0, null));
+        assertThrows(NullPointerException.class, () -> smallTAL.indexOf(null));
+        assertThrows(NullPointerException.class, () -> smallTAL.forEachInt(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallTAL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallTAL.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallTAL.set(1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallTAL.add(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallTAL.remove(1));
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        smallTAL.addLast(1);
+        smallTAL.addLast(2);
+        smallTAL.addLast(3);
+
+        Iterator<Integer> iterator = smallTAL.iterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
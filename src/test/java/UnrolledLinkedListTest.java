@@ -0,0 +1,159 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList smallULL;
+    private UnrolledLinkedList bigULL;
+
+    @BeforeEach
+    public void setup() {
+        smallULL = new UnrolledLinkedList();
+        bigULL = new UnrolledLinkedList();
+    }
+
+    // this test requires implementation of addFirst, add, get, set, size, and remove
+    @Test
+    public void testULLSmallComplex() {
+        assertTrue(smallULL.isEmpty());
+        smallULL.addFirst(88);
+        smallULL.addFirst(73);
+        smallULL.addFirst(67);
+        smallULL.addFirst(45);
+        smallULL.addFirst(18); // 18, 45, 67, 73, 88
+
+        smallULL.add(1, 34);
+        smallULL.add(1, 22);
+        smallULL.add(0, 9);
+        smallULL.add(8, 91);
+        smallULL.add(5, 56); // 9, 18, 22, 34, 45, 56, 67, 73, 88, 91
+
+        int[] expected = {9, 18, 22, 34, 45, 56, 67, 73, 88, 91};
+        assertEquals(expected.length, smallULL.size());
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i], smallULL.get(i));
+        }
+
+        assertEquals(73, smallULL.remove(7));
+        assertEquals(34, smallULL.remove(3));
+        assertEquals(9, smallULL.remove(0));
+        smallULL.set(0, 19);
+        assertEquals(19, smallULL.get(0));
+        assertEquals(7, smallULL.size());
+        assertEquals(2, smallULL.indexOf(45));
+        assertTrue(smallULL.contains(91));
+        assertFalse(smallULL.contains(9));
+
+        smallULL.clear();
+        assertTrue(smallULL.isEmpty());
+        assertEquals(-1, smallULL.indexOf(19));
+    }
+
+    // grow and shrink across many nodes, so nodes are split, borrowed from, and merged
+    @Test
+    public void testULLLargeSimple() {
+        int max = 100000;
+        for(int i = 0; i < max; i++){
+            assertEquals(i, bigULL.size());
+            bigULL.addLast(i);
+        }
+        assertEquals(max - 1, bigULL.get(max - 1));
+        assertEquals(12345, bigULL.indexOf(12345));
+        for(int i = 0; i < max; i += 2){
+            assertEquals(i, bigULL.remove(i / 2));
+        }
+        for(int i = 0; i < max / 2; i++){
+            assertEquals(2 * i + 1, bigULL.get(i));
+        }
+        while(!bigULL.isEmpty()){
+            bigULL.remove(bigULL.size() - 1);
+        }
+        bigULL.addFirst(5);
+        assertEquals(5, bigULL.get(0));
+    }
+
+    // addFirst on a full head splits it, so a list built from the front stays in order
+    @Test
+    public void testULLAddFirstOnly() {
+        int max = 10 * UnrolledLinkedList.NODE_CAPACITY + 3;
+        for(int i = 0; i < max; i++){
+            bigULL.addFirst(i);
+        }
+        assertEquals(max, bigULL.size());
+        for(int i = 0; i < max; i++){
+            assertEquals(max - 1 - i, bigULL.get(i));
+        }
+        for(int i = max - 1; i >= 0; i--){
+            assertEquals(i, bigULL.remove(0));
+        }
+        assertTrue(bigULL.isEmpty());
+    }
+
+    // compare random edits against java.util.ArrayList
+    @Test
+    public void testULLMixedAgainstArrayList() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        for(int step = 0; step < 50000; step++){
+            int op = random.nextInt(5);
+            int value = random.nextInt(1000);
+            if(op == 0){
+                bigULL.addFirst(value);
+                expected.add(0, value);
+            }
+            else if(op == 1){
+                bigULL.addLast(value);
+                expected.add(value);
+            }
+            else if(op == 2){
+                int index = random.nextInt(expected.size() + 1);
+                bigULL.add(index, value);
+                expected.add(index, value);
+            }
+            else if(!expected.isEmpty()){
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), bigULL.remove(index));
+            }
+        }
+        assertEquals(expected.size(), bigULL.size());
+        int i = 0;
+        for(Integer value : bigULL){
+            assertEquals(expected.get(i), value);
+            assertEquals(expected.get(i), bigULL.get(i));
+            i++;
+        }
+        assertEquals(expected.indexOf(500), bigULL.indexOf(500));
+    }
+
+    @Test
+    public void testULLIndexOutOfBounds() {
+        smallULL.addFirst(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> smallULL.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallULL.set(-1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallULL.add(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> smallULL.remove(1));
+    }
+
+    @Test
+    public void testIteratorBasic() {
+        for(int i = 0; i < 200; i++){
+            smallULL.addLast(i);
+        }
+        Iterator<Integer> iterator = smallULL.iterator();
+        for(int i = 0; i < 200; i++){
+            assertTrue(iterator.hasNext());
+            assertEquals(i, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}